@@ -0,0 +1,90 @@
+package com.inditex.similar_products.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonEncoder;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.adapter.out.http.restclient.json.ProductJsonDecoder;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decodes a product details body and writes a product of the streamed response, either through
+ * data binding and the DTO mappers or with the streaming codec. Run with the {@code gc} profiler
+ * to compare allocations per product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductCodecBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final BlackholeOutputStream out = new BlackholeOutputStream();
+
+  private Product product;
+
+  private byte[] productDetailsJson;
+
+  @Setup
+  public void setup() throws IOException {
+    product = new Product(new ProductId("1"), "Dress", BigDecimal.valueOf(19.99), true);
+    productDetailsJson = objectMapper.writeValueAsBytes(
+        new ProductDetailsDto("1", "Dress", BigDecimal.valueOf(19.99), true));
+  }
+
+  @Benchmark
+  public Product decodeWithDataBinding() throws IOException {
+    return objectMapper.readValue(productDetailsJson, ProductDetailsDto.class).toProduct();
+  }
+
+  @Benchmark
+  public Product decodeWithStreamingDecoder() throws IOException {
+    try (var parser = objectMapper.getFactory().createParser(productDetailsJson)) {
+      return ProductJsonDecoder.read(parser);
+    }
+  }
+
+  @Benchmark
+  public void encodeWithDataBinding(Blackhole blackhole) throws IOException {
+    out.blackhole = blackhole;
+    objectMapper.writeValue(out, ProductWebDtoResponseMapper.fromProduct(product));
+  }
+
+  @Benchmark
+  public void encodeWithStreamingEncoder(Blackhole blackhole) throws IOException {
+    out.blackhole = blackhole;
+    ProductJsonEncoder.write(objectMapper, product, out);
+  }
+
+  private static final class BlackholeOutputStream extends OutputStream {
+
+    private Blackhole blackhole;
+
+    @Override
+    public void write(int b) {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      blackhole.consume(b);
+      blackhole.consume(len);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.inditex.similar_products.benchmark;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+
+/**
+ * Product details bound by reflection and then mapped to the domain, as the product API client
+ * did before the streaming decoder. Kept as the baseline the codec benchmarks compare against.
+ */
+public record ProductDetailsDto(String id, String name, BigDecimal price, Boolean availability) {
+
+  public Product toProduct() {
+    return new Product(new ProductId(id), name, price, availability);
+  }
+}
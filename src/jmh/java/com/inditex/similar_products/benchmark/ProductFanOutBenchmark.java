@@ -0,0 +1,90 @@
+package com.inditex.similar_products.benchmark;
+
+import com.inditex.similar_products.adapter.out.http.restclient.SimilarProductRestClientAdapter;
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Fans out product detail calls through {@link SimilarProductRestClientAdapter} against an
+ * in-process client that answers after a simulated latency: {@code fixed} always waits
+ * {@code latencyMicros}, {@code long-tail} waits twenty times longer for 5% of the calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductFanOutBenchmark {
+
+  @Param({"1", "5", "20", "100"})
+  private int width;
+
+  @Param({"fixed", "long-tail"})
+  private String latency;
+
+  @Param({"1000"})
+  private long latencyMicros;
+
+  private ExecutorService virtualThreadExecutor;
+
+  private SimilarProductRestClientAdapter adapter;
+
+  private List<ProductId> productIds;
+
+  @Setup
+  public void setup() {
+    virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    adapter = new SimilarProductRestClientAdapter(new StubProductRestClient(),
+        virtualThreadExecutor);
+    productIds = IntStream.range(0, width).mapToObj(i -> new ProductId(String.valueOf(i)))
+        .toList();
+  }
+
+  @TearDown
+  public void tearDown() {
+    virtualThreadExecutor.close();
+  }
+
+  @Benchmark
+  public List<Product> getProducts() {
+    return adapter.getProducts(productIds);
+  }
+
+  @Benchmark
+  public PartialProducts getAvailableProducts() {
+    return adapter.getAvailableProducts(productIds);
+  }
+
+  private class StubProductRestClient extends ProductRestClient {
+
+    StubProductRestClient() {
+      super(null, null, null, null, null);
+    }
+
+    @Override
+    public Product getProductById(String productId) {
+      var delayMicros = "long-tail".equals(latency)
+          && ThreadLocalRandom.current().nextInt(100) < 5 ? latencyMicros * 20 : latencyMicros;
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(delayMicros));
+      return new Product(new ProductId(productId), "Product " + productId,
+          BigDecimal.valueOf(19.99), true);
+    }
+  }
+}
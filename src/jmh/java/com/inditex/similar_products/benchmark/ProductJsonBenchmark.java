@@ -0,0 +1,64 @@
+package com.inditex.similar_products.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.dto.ProductWebDtoResponse;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductJsonBenchmark {
+
+  private static final TypeReference<List<ProductWebDtoResponse>> PRODUCT_LIST =
+      new TypeReference<>() {
+      };
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Param({"1", "5", "50"})
+  private int products;
+
+  private List<ProductWebDtoResponse> productResponses;
+
+  private byte[] productResponsesJson;
+
+  private byte[] productDetailsJson;
+
+  @Setup
+  public void setup() throws Exception {
+    productResponses = IntStream.range(0, products)
+        .mapToObj(i -> new ProductWebDtoResponse(String.valueOf(i), "Product " + i,
+            BigDecimal.valueOf(1999 + i, 2), i % 2 == 0))
+        .toList();
+    productResponsesJson = objectMapper.writeValueAsBytes(productResponses);
+    productDetailsJson = objectMapper.writeValueAsBytes(
+        new ProductDetailsDto("1", "Dress", BigDecimal.valueOf(19.99), true));
+  }
+
+  @Benchmark
+  public byte[] encodeSimilarProductsResponse() throws Exception {
+    return objectMapper.writeValueAsBytes(productResponses);
+  }
+
+  @Benchmark
+  public List<ProductWebDtoResponse> decodeSimilarProductsResponse() throws Exception {
+    return objectMapper.readValue(productResponsesJson, PRODUCT_LIST);
+  }
+
+  @Benchmark
+  public ProductDetailsDto decodeProductDetails() throws Exception {
+    return objectMapper.readValue(productDetailsJson, ProductDetailsDto.class);
+  }
+}
@@ -0,0 +1,88 @@
+package com.inditex.similar_products.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonFragmentCache;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Writes the similar products response to a discarding stream, the way the servlet output stream
+ * receives it, either by mapping and serializing the products with Jackson on every request or by
+ * copying the cached JSON fragments. Run with the {@code gc} profiler to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductJsonFragmentBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Param({"1", "5", "50"})
+  private int products;
+
+  private List<Product> similarProducts;
+
+  private ProductJsonFragmentCache fragmentCache;
+
+  private final BlackholeOutputStream out = new BlackholeOutputStream();
+
+  @Setup
+  public void setup() throws IOException {
+    similarProducts = IntStream.range(0, products)
+        .mapToObj(i -> new Product(new ProductId(String.valueOf(i)), "Product " + i,
+            BigDecimal.valueOf(1999 + i, 2), i % 2 == 0))
+        .toList();
+    fragmentCache = new ProductJsonFragmentCache(objectMapper, 1000);
+    fragmentCache.writeArray(similarProducts, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void writeWithJackson(Blackhole blackhole) throws IOException {
+    out.blackhole = blackhole;
+    objectMapper.writeValue(out, similarProducts.stream()
+        .map(ProductWebDtoResponseMapper::fromProduct)
+        .toList());
+  }
+
+  @Benchmark
+  public void writeWithCachedFragments(Blackhole blackhole) throws IOException {
+    out.blackhole = blackhole;
+    fragmentCache.writeArray(similarProducts, out);
+  }
+
+  private static final class BlackholeOutputStream extends OutputStream {
+
+    private Blackhole blackhole;
+
+    @Override
+    public void write(int b) {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      blackhole.consume(b);
+      blackhole.consume(len);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
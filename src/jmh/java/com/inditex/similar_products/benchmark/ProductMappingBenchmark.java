@@ -0,0 +1,43 @@
+package com.inditex.similar_products.benchmark;
+
+import com.inditex.similar_products.adapter.in.web.dto.ProductWebDtoResponse;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMappingBenchmark {
+
+  @Param({"1", "5", "50"})
+  private int products;
+
+  private List<ProductDetailsDto> productDtos;
+
+  @Setup
+  public void setup() {
+    productDtos = IntStream.range(0, products)
+        .mapToObj(i -> new ProductDetailsDto(String.valueOf(i), "Product " + i,
+            BigDecimal.valueOf(1999 + i, 2), i % 2 == 0))
+        .toList();
+  }
+
+  @Benchmark
+  public List<ProductWebDtoResponse> restClientDtoToWebDto() {
+    return productDtos.stream()
+        .map(ProductDetailsDto::toProduct)
+        .map(ProductWebDtoResponseMapper::fromProduct)
+        .toList();
+  }
+}
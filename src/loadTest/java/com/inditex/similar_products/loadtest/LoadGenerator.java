@@ -0,0 +1,96 @@
+package com.inditex.similar_products.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives a constant number of virtual users, each sending a request, waiting for its answer and
+ * then for the think time, until the scenario duration ends. Requests still in flight at that
+ * point are allowed to finish and are included in the result.
+ */
+public class LoadGenerator {
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+
+  private final String baseUrl;
+
+  private final int concurrency;
+
+  private final Duration duration;
+
+  private final Duration thinkTime;
+
+  private final Duration requestTimeout;
+
+  public LoadGenerator(String baseUrl, int concurrency, Duration duration, Duration thinkTime,
+      Duration requestTimeout) {
+    this.baseUrl = baseUrl;
+    this.concurrency = concurrency;
+    this.duration = duration;
+    this.thinkTime = thinkTime;
+    this.requestTimeout = requestTimeout;
+  }
+
+  public ScenarioResult run(LoadScenario scenario) throws Exception {
+    var request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.getPath()))
+        .timeout(requestTimeout)
+        .GET()
+        .build();
+    var start = System.nanoTime();
+    var end = start + duration.toNanos();
+    var users = new ArrayList<Future<VirtualUser>>(concurrency);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        users.add(executor.submit(() -> new VirtualUser().run(request, end)));
+      }
+    }
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+    var latencies = new ArrayList<Long>();
+    var statusCounts = new HashMap<Integer, Long>();
+    var failedRequests = 0L;
+    for (var user : users) {
+      var result = user.get();
+      latencies.addAll(result.latenciesNanos);
+      result.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+      failedRequests += result.failedRequests;
+    }
+    return new ScenarioResult(scenario, latencies.stream().mapToLong(Long::longValue).toArray(),
+        statusCounts, failedRequests, elapsed);
+  }
+
+  private class VirtualUser {
+
+    private final List<Long> latenciesNanos = new ArrayList<>();
+
+    private final Map<Integer, Long> statusCounts = new HashMap<>();
+
+    private long failedRequests;
+
+    VirtualUser run(HttpRequest request, long endNanos) throws InterruptedException {
+      while (System.nanoTime() < endNanos) {
+        var start = System.nanoTime();
+        try {
+          var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+          latenciesNanos.add(System.nanoTime() - start);
+          statusCounts.merge(response.statusCode(), 1L, Long::sum);
+        } catch (IOException e) {
+          failedRequests++;
+        }
+        Thread.sleep(thinkTime);
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.inditex.similar_products.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The k6 scenarios of {@code provided_mocks_and_tests/k6/test.js}, with the p99 latency each one
+ * is expected to stay under. Budgets can be overridden with {@code loadtest.budget.<name>}.
+ */
+public enum LoadScenario {
+
+  NORMAL("normal", "/product/1/similar", 500),
+  NOT_FOUND("notFound", "/product/4/similar", 500),
+  ERROR("error", "/product/5/similar", 2000),
+  SLOW("slow", "/product/2/similar", 6000),
+  VERY_SLOW("verySlow", "/product/3/similar", 11000);
+
+  private final String scenarioName;
+
+  private final String path;
+
+  private final long p99BudgetMillis;
+
+  LoadScenario(String scenarioName, String path, long p99BudgetMillis) {
+    this.scenarioName = scenarioName;
+    this.path = path;
+    this.p99BudgetMillis = p99BudgetMillis;
+  }
+
+  public String getScenarioName() {
+    return scenarioName;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public Duration p99Budget() {
+    return Duration.ofMillis(Long.getLong("loadtest.budget." + scenarioName, p99BudgetMillis));
+  }
+
+  /**
+   * Resolves a comma-separated list of scenario names, or every scenario when it is blank.
+   *
+   * @throws IllegalArgumentException when a name is unknown or the list names no scenario
+   */
+  public static List<LoadScenario> select(String names) {
+    if (names.isBlank()) {
+      return List.of(values());
+    }
+    var requested = Arrays.stream(names.split(",")).map(String::strip)
+        .filter(name -> !name.isEmpty()).distinct().toList();
+    var unknown = requested.stream()
+        .filter(name -> Arrays.stream(values())
+            .noneMatch(scenario -> scenario.scenarioName.equals(name)))
+        .toList();
+    if (!unknown.isEmpty()) {
+      throw new IllegalArgumentException("Unknown scenarios " + unknown + ", expected some of "
+          + Arrays.stream(values()).map(LoadScenario::getScenarioName).toList());
+    }
+    if (requested.isEmpty()) {
+      throw new IllegalArgumentException("No scenario selected in '" + names + "'");
+    }
+    return Arrays.stream(values())
+        .filter(scenario -> requested.contains(scenario.scenarioName))
+        .toList();
+  }
+}
@@ -0,0 +1,69 @@
+package com.inditex.similar_products.loadtest;
+
+import com.inditex.similar_products.SimilarProductsApplication;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Starts the application against an embedded {@link ProductApiStub} and runs the k6 scenarios
+ * one after the other, printing throughput and latency percentiles. Exits with status 1 when a
+ * scenario exceeds its p99 budget, and with status 2 before starting when
+ * {@code loadtest.scenarios} names an unknown scenario or none. Settings are read from
+ * {@code loadtest.*} system properties.
+ */
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws Exception {
+    List<LoadScenario> scenarios;
+    try {
+      scenarios = LoadScenario.select(System.getProperty("loadtest.scenarios", ""));
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+      return;
+    }
+    var concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    var duration = Duration.ofMillis(Long.getLong("loadtest.duration", 10_000L));
+    var thinkTime = Duration.ofMillis(Long.getLong("loadtest.think-time", 500L));
+    var requestTimeout = Duration.ofMillis(Long.getLong("loadtest.request-timeout", 60_000L));
+
+    var results = new ArrayList<ScenarioResult>();
+    try (var stub = productApiStub();
+        var application = new SpringApplicationBuilder(SimilarProductsApplication.class)
+            .properties(
+                "server.port=0",
+                "product-api.base-url=" + stub.start(),
+                "logging.level.com.inditex=ERROR")
+            .run(args)) {
+      var port = application.getEnvironment().getProperty("local.server.port");
+      var generator = new LoadGenerator("http://localhost:" + port, concurrency, duration,
+          thinkTime, requestTimeout);
+      System.out.printf("Running %s with %d virtual users for %d ms each%n", scenarios,
+          concurrency, duration.toMillis());
+      for (var scenario : scenarios) {
+        var result = generator.run(scenario);
+        results.add(result);
+        System.out.println(result.summary());
+      }
+    }
+
+    var exceeded = results.stream().filter(result -> !result.withinBudget()).toList();
+    if (!exceeded.isEmpty()) {
+      System.out.println("Latency budget exceeded by: " + exceeded.stream()
+          .map(result -> result.scenario().getScenarioName()).toList());
+      System.exit(1);
+    }
+  }
+
+  private static ProductApiStub productApiStub() throws IOException {
+    var location = System.getProperty("loadtest.stub");
+    try (var routes = location != null ? new FileInputStream(location)
+        : LoadTestRunner.class.getResourceAsStream("/product-api-stub.json")) {
+      return new ProductApiStub(routes);
+    }
+  }
+}
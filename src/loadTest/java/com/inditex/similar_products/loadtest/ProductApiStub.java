@@ -0,0 +1,159 @@
+package com.inditex.similar_products.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embedded stand-in for the product API described in {@code existingApis.yaml}. Routes are read
+ * from a JSON file with the shape of simulado's {@code mocks.json} ({@code path}, {@code status},
+ * {@code body}, {@code delay}), extended with an optional {@code latency} distribution
+ * ({@code fixed}, {@code uniform} or {@code lognormal}) and an {@code errorRate}, the fraction
+ * of calls answered with 500. Unknown paths answer 404. Bodies are served with an
+ * {@code ETag} and a {@code Last-Modified} header, and conditional requests whose
+ * {@code If-None-Match} or {@code If-Modified-Since} still match are answered with 304.
+ */
+public class ProductApiStub implements AutoCloseable {
+
+  private final Map<String, Route> routes;
+
+  private final Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final HttpServer server;
+
+  public ProductApiStub(InputStream routesJson) throws IOException {
+    this.routes = readRoutes(new ObjectMapper().readTree(routesJson));
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+  }
+
+  public String start() {
+    server.start();
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.close();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      var route = routes.get(exchange.getRequestURI().getPath());
+      if (route == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      Thread.sleep(route.latency().sampleMillis());
+      if (route.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < route.errorRate()) {
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      if (route.body() == null) {
+        exchange.sendResponseHeaders(route.status(), -1);
+        return;
+      }
+      if (route.status() == 200) {
+        exchange.getResponseHeaders().add("ETag", route.eTag());
+        exchange.getResponseHeaders().add("Last-Modified",
+            DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atZone(ZoneOffset.UTC)));
+        if (isNotModified(exchange, route)) {
+          exchange.sendResponseHeaders(304, -1);
+          return;
+        }
+      }
+      exchange.sendResponseHeaders(route.status(), route.body().length);
+      exchange.getResponseBody().write(route.body());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private boolean isNotModified(HttpExchange exchange, Route route) {
+    var ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+    if (ifNoneMatch != null) {
+      return Arrays.stream(ifNoneMatch.split(","))
+          .map(String::trim)
+          .anyMatch(eTag -> eTag.equals("*") || eTag.equals(route.eTag()));
+    }
+    var ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+    if (ifModifiedSince != null) {
+      try {
+        return !lastModified.isAfter(ZonedDateTime.parse(ifModifiedSince,
+            DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+      } catch (DateTimeParseException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static Map<String, Route> readRoutes(JsonNode json) {
+    var routes = new HashMap<String, Route>();
+    for (var node : json) {
+      var body = node.path("body").isMissingNode() ? null
+          : node.path("body").asText().getBytes(StandardCharsets.UTF_8);
+      routes.put(node.path("path").asText(), new Route(
+          node.path("status").asInt(200),
+          body,
+          "\"" + HexFormat.of().toHexDigits(Arrays.hashCode(body)) + "\"",
+          readLatency(node),
+          node.path("errorRate").asDouble(0)));
+    }
+    return routes;
+  }
+
+  private static Latency readLatency(JsonNode node) {
+    var latency = node.path("latency");
+    if (latency.isMissingNode()) {
+      return new Latency("fixed", node.path("delay").asLong(0), 0, 0);
+    }
+    return new Latency(latency.path("type").asText("fixed"), latency.path("millis").asLong(0),
+        latency.path("maxMillis").asLong(0), latency.path("sigma").asDouble(0));
+  }
+
+  private record Route(int status, byte[] body, String eTag, Latency latency, double errorRate) {
+
+  }
+
+  /**
+   * {@code fixed} waits {@code millis}; {@code uniform} waits between {@code millis} and
+   * {@code maxMillis}; {@code lognormal} has median {@code millis} and shape {@code sigma}.
+   */
+  private record Latency(String type, long millis, long maxMillis, double sigma) {
+
+    long sampleMillis() {
+      var random = ThreadLocalRandom.current();
+      return switch (type) {
+        case "uniform" -> random.nextLong(millis, Math.max(millis, maxMillis) + 1);
+        case "lognormal" -> Math.round(millis * Math.exp(sigma * random.nextGaussian()));
+        default -> millis;
+      };
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.inditex.similar_products.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record ScenarioResult(LoadScenario scenario, long[] latenciesNanos,
+                             Map<Integer, Long> statusCounts, long failedRequests,
+                             Duration elapsed) {
+
+  public ScenarioResult {
+    latenciesNanos = latenciesNanos.clone();
+    Arrays.sort(latenciesNanos);
+    statusCounts = new TreeMap<>(statusCounts);
+  }
+
+  public Duration percentile(double percentile) {
+    if (latenciesNanos.length == 0) {
+      return Duration.ZERO;
+    }
+    var index = (int) Math.ceil(percentile * latenciesNanos.length) - 1;
+    return Duration.ofNanos(latenciesNanos[Math.max(0, index)]);
+  }
+
+  public double throughput() {
+    return latenciesNanos.length / (elapsed.toNanos() / 1e9);
+  }
+
+  public boolean withinBudget() {
+    return percentile(0.99).compareTo(scenario.p99Budget()) <= 0;
+  }
+
+  public String summary() {
+    return String.format(
+        "%-9s %7d req %8.1f req/s  p50 %6d ms  p95 %6d ms  p99 %6d ms  max %6d ms  "
+            + "budget p99 %6d ms %s  status %s  failed %d",
+        scenario.getScenarioName(), latenciesNanos.length, throughput(),
+        percentile(0.5).toMillis(), percentile(0.95).toMillis(), percentile(0.99).toMillis(),
+        percentile(1).toMillis(), scenario.p99Budget().toMillis(),
+        withinBudget() ? "OK" : "EXCEEDED", statusCounts, failedRequests);
+  }
+}
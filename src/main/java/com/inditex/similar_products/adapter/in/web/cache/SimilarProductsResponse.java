@@ -0,0 +1,53 @@
+package com.inditex.similar_products.adapter.in.web.cache;
+
+import com.inditex.similar_products.domain.model.Product;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Similar products of a product with the strong ETag of their JSON representation. The ETag is
+ * the first 128 bits of a SHA-256 digest over every field of every product, in order, so equal
+ * lists always get the same ETag and any change to a product or to the list changes it.
+ */
+public record SimilarProductsResponse(List<Product> products, String eTag) {
+
+  private static final int NULL_LENGTH = -1;
+
+  private static final int ETAG_BYTES = 16;
+
+  public static SimilarProductsResponse of(List<Product> products) {
+    return new SimilarProductsResponse(List.copyOf(products), eTag(products));
+  }
+
+  private static String eTag(List<Product> products) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+    update(digest, String.valueOf(products.size()));
+    for (var product : products) {
+      update(digest, product.getId().value());
+      update(digest, product.getName());
+      update(digest, product.getPrice() == null ? null : product.getPrice().toString());
+      update(digest, product.getIsAvailable() == null ? null
+          : product.getIsAvailable().toString());
+    }
+    return "\"" + HexFormat.of().formatHex(digest.digest(), 0, ETAG_BYTES) + "\"";
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    if (value == null) {
+      digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(NULL_LENGTH).flip());
+      return;
+    }
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).flip());
+    digest.update(bytes);
+  }
+}
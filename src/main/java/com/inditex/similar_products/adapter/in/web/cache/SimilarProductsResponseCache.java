@@ -0,0 +1,126 @@
+package com.inditex.similar_products.adapter.in.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assembled similar products responses, keyed by the id of the product they were requested for.
+ * A response is invalidated when the similar ids of its product change and, through an index of
+ * the products each response contains, when any of those products changes. Every change is
+ * stamped with a new version, and a response assembled from an older {@link #version()} than the
+ * last change of one of its products is not stored. The stamps of the last
+ * {@code maxTrackedChanges} changed products are kept; when older stamps have been dropped, a
+ * response assembled before them is not stored either.
+ */
+public class SimilarProductsResponseCache implements MeterBinder {
+
+  private final Cache<ProductId, SimilarProductsResponse> responses;
+
+  private final Map<ProductId, Set<ProductId>> responsesByProduct = new ConcurrentHashMap<>();
+
+  private final AtomicLong version = new AtomicLong();
+
+  private final Cache<ProductId, Long> changedAt;
+
+  private final AtomicLong forgottenChangesUpTo = new AtomicLong();
+
+  public SimilarProductsResponseCache(Caffeine<Object, Object> cacheBuilder,
+      long maxTrackedChanges) {
+    this.responses = cacheBuilder
+        .<ProductId, SimilarProductsResponse>removalListener(this::onRemoval)
+        .build();
+    this.changedAt = Caffeine.newBuilder()
+        .maximumSize(maxTrackedChanges)
+        .executor(Runnable::run)
+        .<ProductId, Long>evictionListener((productId, changeVersion, cause) ->
+            forgottenChangesUpTo.accumulateAndGet(changeVersion, Math::max))
+        .build();
+  }
+
+  public Optional<SimilarProductsResponse> get(ProductId productId) {
+    return Optional.ofNullable(responses.getIfPresent(productId));
+  }
+
+  /**
+   * Returns the current version, to be read before a response is assembled and passed to
+   * {@link #put} with it.
+   */
+  public long version() {
+    return version.get();
+  }
+
+  public void put(ProductId productId, SimilarProductsResponse response, long assembledAt) {
+    if (changedSince(productId, response, assembledAt)) {
+      return;
+    }
+    responses.put(productId, response);
+    response.products().forEach(product -> responsesByProduct.compute(product.getId(),
+        (id, productIds) -> {
+          var indexed = productIds != null ? productIds : ConcurrentHashMap.<ProductId>newKeySet();
+          indexed.add(productId);
+          return indexed;
+        }));
+    if (changedSince(productId, response, assembledAt)) {
+      responses.asMap().remove(productId, response);
+    }
+  }
+
+  public void invalidateSimilarProductIds(ProductId productId) {
+    changedAt.put(productId, version.incrementAndGet());
+    responses.invalidate(productId);
+  }
+
+  public void invalidateProduct(ProductId productId) {
+    changedAt.put(productId, version.incrementAndGet());
+    var productIds = responsesByProduct.remove(productId);
+    if (productIds != null) {
+      responses.invalidateAll(productIds);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, responses, "similar-products-responses");
+  }
+
+  int indexedProducts() {
+    return responsesByProduct.size();
+  }
+
+  private boolean changedSince(ProductId productId, SimilarProductsResponse response,
+      long assembledAt) {
+    return changedSince(productId, assembledAt) || response.products().stream()
+        .anyMatch(product -> changedSince(product.getId(), assembledAt));
+  }
+
+  private boolean changedSince(ProductId productId, long assembledAt) {
+    var changeVersion = changedAt.getIfPresent(productId);
+    return (changeVersion != null ? changeVersion : forgottenChangesUpTo.get()) > assembledAt;
+  }
+
+  private void onRemoval(ProductId productId, SimilarProductsResponse response,
+      RemovalCause cause) {
+    if (response == null) {
+      return;
+    }
+    response.products().forEach(product -> responsesByProduct.computeIfPresent(product.getId(),
+        (id, productIds) -> {
+          var current = responses.policy().getIfPresentQuietly(productId);
+          if (current == null || current.products().stream()
+              .noneMatch(currentProduct -> currentProduct.getId().equals(id))) {
+            productIds.remove(productId);
+          }
+          return productIds.isEmpty() ? null : productIds;
+        }));
+  }
+}
@@ -0,0 +1,35 @@
+package com.inditex.similar_products.adapter.in.web.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponseCache;
+import com.inditex.similar_products.adapter.out.cache.CachingProductsAdapter;
+import com.inditex.similar_products.adapter.out.cache.CachingSimilarProductIdsAdapter;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "similar-products.response-cache.enabled", havingValue = "true")
+public class SimilarProductsResponseCacheConfig {
+
+  @Value("${similar-products.response-cache.max-size}")
+  private long maxSize;
+  @Value("${similar-products.response-cache.ttl}")
+  private long ttl;
+
+  @Bean
+  public SimilarProductsResponseCache similarProductsResponseCache(
+      CachingProductsAdapter cachingProductsAdapter,
+      CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter) {
+    var responseCache = new SimilarProductsResponseCache(Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMillis(ttl))
+        .recordStats(), maxSize);
+    cachingProductsAdapter.addChangeListener(responseCache::invalidateProduct);
+    cachingSimilarProductIdsAdapter.addChangeListener(
+        responseCache::invalidateSimilarProductIds);
+    return responseCache;
+  }
+}
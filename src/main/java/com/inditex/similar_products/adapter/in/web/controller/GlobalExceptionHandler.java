@@ -1,5 +1,6 @@
 package com.inditex.similar_products.adapter.in.web.controller;
 
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
 import org.springframework.http.HttpStatus;
@@ -11,28 +12,37 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-  @ExceptionHandler(ProductNotFoundException.class)
-  public ResponseEntity<ProblemDetail> handleProductNotFoundException(ProductNotFoundException e) {
-    var problem = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
-    problem.setTitle("Product Not Found");
-    problem.setDetail(e.getMessage());
-    return new ResponseEntity<>(problem, HttpStatus.NOT_FOUND);
+  @ExceptionHandler(RuntimeException.class)
+  public ResponseEntity<ProblemDetail> handleRuntimeException(RuntimeException e) {
+    var problem = toProblemDetail(e);
+    return ResponseEntity.status(problem.getStatus()).body(problem);
   }
 
-  @ExceptionHandler(SimilarProductsRetrievalException.class)
-  public ResponseEntity<ProblemDetail> handleSimilarProductsRetrievalException(
-      SimilarProductsRetrievalException e) {
-    var problem = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
-    problem.setTitle("Failed to retrieve similar products");
-    problem.setDetail(e.getMessage());
-    return new ResponseEntity<>(problem, HttpStatus.INTERNAL_SERVER_ERROR);
+  /**
+   * Problem answered for an exception, by the handler above and for the failed entries of a batch
+   * response.
+   */
+  static ProblemDetail toProblemDetail(RuntimeException e) {
+    return switch (e) {
+      case ProductNotFoundException notFound ->
+          problem(HttpStatus.NOT_FOUND, "Product Not Found", notFound.getMessage());
+      case DeadlineExceededException deadlineExceeded ->
+          problem(HttpStatus.GATEWAY_TIMEOUT, "Similar products request timed out",
+              deadlineExceeded.getMessage());
+      case InvalidRequestTimeoutException invalidTimeout ->
+          problem(HttpStatus.BAD_REQUEST, "Invalid request timeout", invalidTimeout.getMessage());
+      case SimilarProductsRetrievalException retrievalFailed ->
+          problem(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to retrieve similar products",
+              retrievalFailed.getMessage());
+      default -> problem(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+          "Something went wrong. Please try again later.");
+    };
   }
 
-  @ExceptionHandler(RuntimeException.class)
-  public ResponseEntity<ProblemDetail> handleRuntimeException(RuntimeException e) {
-    var problem = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
-    problem.setTitle("Internal Server Error");
-    problem.setDetail("Something went wrong. Please try again later.");
-    return new ResponseEntity<>(problem, HttpStatus.INTERNAL_SERVER_ERROR);
+  private static ProblemDetail problem(HttpStatus status, String title, String detail) {
+    var problem = ProblemDetail.forStatus(status);
+    problem.setTitle(title);
+    problem.setDetail(detail);
+    return problem;
   }
 }
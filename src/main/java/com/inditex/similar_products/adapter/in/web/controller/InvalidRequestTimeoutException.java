@@ -0,0 +1,8 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+class InvalidRequestTimeoutException extends RuntimeException {
+
+  InvalidRequestTimeoutException(String message) {
+    super(message);
+  }
+}
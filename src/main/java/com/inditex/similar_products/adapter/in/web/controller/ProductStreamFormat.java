@@ -0,0 +1,74 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonEncoder;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.http.MediaType;
+
+enum ProductStreamFormat {
+
+  NDJSON(MediaType.APPLICATION_NDJSON) {
+    @Override
+    void writeProduct(OutputStream out, ObjectMapper objectMapper, Product product)
+        throws IOException {
+      ProductJsonEncoder.write(objectMapper, product, out);
+      out.write('\n');
+    }
+
+    @Override
+    void writeOmitted(OutputStream out, ObjectMapper objectMapper, List<ProductId> omittedIds) {
+    }
+  },
+
+  SERVER_SENT_EVENTS(MediaType.TEXT_EVENT_STREAM) {
+    @Override
+    void writeProduct(OutputStream out, ObjectMapper objectMapper, Product product)
+        throws IOException {
+      out.write(PRODUCT_EVENT_PREFIX);
+      ProductJsonEncoder.write(objectMapper, product, out);
+      out.write(EVENT_SUFFIX);
+    }
+
+    @Override
+    void writeOmitted(OutputStream out, ObjectMapper objectMapper, List<ProductId> omittedIds)
+        throws IOException {
+      if (!omittedIds.isEmpty()) {
+        writeEvent(out, "omitted", objectMapper.writeValueAsBytes(
+            omittedIds.stream().map(ProductId::value).toList()));
+      }
+    }
+  };
+
+  private static final byte[] PRODUCT_EVENT_PREFIX =
+      "event: product\ndata: ".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+  private final MediaType mediaType;
+
+  ProductStreamFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  MediaType mediaType() {
+    return mediaType;
+  }
+
+  abstract void writeProduct(OutputStream out, ObjectMapper objectMapper, Product product)
+      throws IOException;
+
+  abstract void writeOmitted(OutputStream out, ObjectMapper objectMapper,
+      List<ProductId> omittedIds) throws IOException;
+
+  private static void writeEvent(OutputStream out, String event, byte[] data)
+      throws IOException {
+    out.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+    out.write(data);
+    out.write(EVENT_SUFFIX);
+  }
+}
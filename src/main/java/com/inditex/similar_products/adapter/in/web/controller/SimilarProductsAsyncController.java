@@ -0,0 +1,65 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import static com.inditex.similar_products.adapter.in.web.controller.SimilarProductsController.PARTIAL_RESULTS_HEADER;
+import static com.inditex.similar_products.adapter.in.web.controller.SimilarProductsController.REQUEST_TIMEOUT_HEADER;
+
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponse;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonArray;
+import com.inditex.similar_products.application.port.in.GetSimilarProductsAsyncUseCase;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/product")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "reactive")
+public class SimilarProductsAsyncController {
+
+  private final GetSimilarProductsAsyncUseCase getSimilarProductsAsyncUseCase;
+
+  @Value("${similar-products.deadline.default-timeout}")
+  private long defaultTimeout;
+
+  @Value("${similar-products.deadline.max-timeout}")
+  private long maxTimeout;
+
+  @Value("${similar-products.partial-results.enabled}")
+  private boolean partialResultsEnabled;
+
+  @Value("${similar-products.http-cache.max-age}")
+  private long maxAge;
+
+  @Value("${similar-products.http-cache.stale-while-revalidate}")
+  private long staleWhileRevalidate;
+
+  @GetMapping("/{id}/similar")
+  public CompletableFuture<ResponseEntity<ProductJsonArray>> getSimilarProducts(
+      @PathVariable("id") String id,
+      @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) String requestTimeout,
+      @RequestHeader(value = PARTIAL_RESULTS_HEADER, required = false) Boolean partialResults) {
+    var productId = new ProductId(id);
+    var deadline = SimilarProductsControllerSupport.deadline(requestTimeout, defaultTimeout,
+        maxTimeout);
+    var cacheControl = SimilarProductsControllerSupport.cacheControl(maxAge,
+        staleWhileRevalidate);
+    if (partialResults != null ? partialResults : partialResultsEnabled) {
+      return getSimilarProductsAsyncUseCase.getAvailableSimilarProducts(productId, deadline)
+          .thenApply(availableProducts -> availableProducts.omittedProductIds().isEmpty()
+              ? SimilarProductsControllerSupport.ok(
+                  SimilarProductsResponse.of(availableProducts.products()), cacheControl)
+              : SimilarProductsControllerSupport.ok(availableProducts));
+    }
+    return getSimilarProductsAsyncUseCase.getSimilarProducts(productId, deadline)
+        .thenApply(products -> SimilarProductsControllerSupport.ok(
+            SimilarProductsResponse.of(products), cacheControl));
+  }
+}
@@ -0,0 +1,76 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import static com.inditex.similar_products.adapter.in.web.controller.SimilarProductsController.REQUEST_TIMEOUT_HEADER;
+
+import com.inditex.similar_products.adapter.in.web.dto.SimilarProductsBatchEntryWebDtoResponse;
+import com.inditex.similar_products.adapter.in.web.dto.SimilarProductsBatchWebDtoRequest;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.application.port.in.GetSimilarProductsUseCase;
+import com.inditex.similar_products.domain.model.ProductId;
+import com.inditex.similar_products.domain.model.SimilarProductsOutcome;
+import java.util.LinkedHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/product")
+@RequiredArgsConstructor
+public class SimilarProductsBatchController {
+
+  private final GetSimilarProductsUseCase getSimilarProductsUseCase;
+
+  @Value("${similar-products.deadline.default-timeout}")
+  private long defaultTimeout;
+
+  @Value("${similar-products.deadline.max-timeout}")
+  private long maxTimeout;
+
+  @Value("${similar-products.batch.max-size}")
+  private int maxBatchSize;
+
+  @PostMapping("/similar:batch")
+  public ResponseEntity<?> getSimilarProductsBatch(
+      @RequestBody SimilarProductsBatchWebDtoRequest request,
+      @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) String requestTimeout) {
+    if (request.ids() == null || request.ids().isEmpty()
+        || request.ids().size() > maxBatchSize) {
+      var problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+      problem.setTitle("Invalid similar products batch");
+      problem.setDetail("A batch must contain between 1 and " + maxBatchSize + " product ids");
+      return ResponseEntity.badRequest().body(problem);
+    }
+    if (request.ids().stream().anyMatch(id -> id == null || id.isBlank())) {
+      var problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+      problem.setTitle("Invalid similar products batch");
+      problem.setDetail("Product ids must not be null or blank");
+      return ResponseEntity.badRequest().body(problem);
+    }
+    var productIds = request.ids().stream().map(ProductId::new).toList();
+    var deadline = SimilarProductsControllerSupport.deadline(requestTimeout, defaultTimeout,
+        maxTimeout);
+    var outcomes = DeadlineContext.supplyWithin(deadline,
+        () -> getSimilarProductsUseCase.getSimilarProductsBatch(productIds));
+    var response = new LinkedHashMap<String, SimilarProductsBatchEntryWebDtoResponse>();
+    outcomes.forEach((id, outcome) -> response.put(id.value(), toResponse(outcome)));
+    return ResponseEntity.ok(response);
+  }
+
+  private static SimilarProductsBatchEntryWebDtoResponse toResponse(
+      SimilarProductsOutcome outcome) {
+    if (outcome.isFailed()) {
+      var problem = GlobalExceptionHandler.toProblemDetail(outcome.error());
+      return new SimilarProductsBatchEntryWebDtoResponse(problem.getStatus(), null, problem);
+    }
+    return new SimilarProductsBatchEntryWebDtoResponse(HttpStatus.OK.value(),
+        outcome.products().stream().map(ProductWebDtoResponseMapper::fromProduct).toList(), null);
+  }
+}
@@ -1,31 +1,138 @@
 package com.inditex.similar_products.adapter.in.web.controller;
 
-import com.inditex.similar_products.adapter.in.web.dto.ProductWebDtoResponse;
-import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponse;
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponseCache;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonArray;
+import com.inditex.similar_products.application.context.DeadlineContext;
 import com.inditex.similar_products.application.port.in.GetSimilarProductsUseCase;
+import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/product")
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "blocking",
+    matchIfMissing = true)
 public class SimilarProductsController {
 
+  public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+  public static final String PARTIAL_RESULTS_HEADER = "X-Partial-Results";
+
+  public static final String OMITTED_PRODUCTS_HEADER = "X-Omitted-Products";
+
+  public static final String ORDERED_STREAM_HEADER = "X-Ordered-Stream";
+
   private final GetSimilarProductsUseCase getSimilarProductsUseCase;
 
+  private final ObjectMapper objectMapper;
+
+  private final Optional<SimilarProductsResponseCache> similarProductsResponseCache;
+
+  @Value("${similar-products.deadline.default-timeout}")
+  private long defaultTimeout;
+
+  @Value("${similar-products.deadline.max-timeout}")
+  private long maxTimeout;
+
+  @Value("${similar-products.partial-results.enabled}")
+  private boolean partialResultsEnabled;
+
+  @Value("${similar-products.http-cache.max-age}")
+  private long maxAge;
+
+  @Value("${similar-products.http-cache.stale-while-revalidate}")
+  private long staleWhileRevalidate;
+
   @GetMapping("/{id}/similar")
-  public ResponseEntity<List<ProductWebDtoResponse>> getSimilarProducts(
-      @PathVariable("id") String id) {
-    var similarProducts = getSimilarProductsUseCase.getSimilarProducts(new ProductId(id))
-        .stream()
-        .map(ProductWebDtoResponseMapper::fromProduct)
-        .toList();
-    return ResponseEntity.ok(similarProducts);
+  public ResponseEntity<ProductJsonArray> getSimilarProducts(
+      @PathVariable("id") String id,
+      @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) String requestTimeout,
+      @RequestHeader(value = PARTIAL_RESULTS_HEADER, required = false) Boolean partialResults) {
+    var productId = new ProductId(id);
+    var deadline = SimilarProductsControllerSupport.deadline(requestTimeout, defaultTimeout,
+        maxTimeout);
+    var cacheControl = SimilarProductsControllerSupport.cacheControl(maxAge,
+        staleWhileRevalidate);
+    var cachedResponse = similarProductsResponseCache.flatMap(cache -> cache.get(productId));
+    if (cachedResponse.isPresent()) {
+      return SimilarProductsControllerSupport.ok(cachedResponse.get(), cacheControl);
+    }
+    var assembledAt = similarProductsResponseCache.map(SimilarProductsResponseCache::version)
+        .orElse(0L);
+    List<Product> products;
+    if (partialResults != null ? partialResults : partialResultsEnabled) {
+      var availableProducts = DeadlineContext.supplyWithin(deadline,
+          () -> getSimilarProductsUseCase.getAvailableSimilarProducts(productId));
+      if (!availableProducts.omittedProductIds().isEmpty()) {
+        return SimilarProductsControllerSupport.ok(availableProducts);
+      }
+      products = availableProducts.products();
+    } else {
+      products = DeadlineContext.supplyWithin(deadline,
+          () -> getSimilarProductsUseCase.getSimilarProducts(productId));
+    }
+    var response = SimilarProductsResponse.of(products);
+    similarProductsResponseCache.ifPresent(cache -> cache.put(productId, response, assembledAt));
+    return SimilarProductsControllerSupport.ok(response, cacheControl);
+  }
+
+  @GetMapping(value = "/{id}/similar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamSimilarProductsAsNdjson(
+      @PathVariable("id") String id,
+      @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) String requestTimeout,
+      @RequestHeader(value = ORDERED_STREAM_HEADER, defaultValue = "false") boolean ordered) {
+    return streamSimilarProducts(id, requestTimeout, ordered, ProductStreamFormat.NDJSON);
+  }
+
+  @GetMapping(value = "/{id}/similar", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamSimilarProductsAsEvents(
+      @PathVariable("id") String id,
+      @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) String requestTimeout,
+      @RequestHeader(value = ORDERED_STREAM_HEADER, defaultValue = "false") boolean ordered) {
+    return streamSimilarProducts(id, requestTimeout, ordered,
+        ProductStreamFormat.SERVER_SENT_EVENTS);
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamSimilarProducts(String id,
+      String requestTimeout, boolean ordered, ProductStreamFormat format) {
+    var productId = new ProductId(id);
+    var deadline = SimilarProductsControllerSupport.deadline(requestTimeout, defaultTimeout,
+        maxTimeout);
+    var productStream = DeadlineContext.supplyWithin(deadline,
+        () -> getSimilarProductsUseCase.streamSimilarProducts(productId, ordered));
+    StreamingResponseBody body = out -> {
+      try {
+        var omittedProductIds = DeadlineContext.supplyWithin(deadline,
+            () -> productStream.forEachAvailable(product -> {
+              try {
+                format.writeProduct(out, objectMapper, product);
+                out.flush();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }));
+        format.writeOmitted(out, objectMapper, omittedProductIds);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+    return ResponseEntity.ok().contentType(format.mediaType()).body(body);
   }
 }
@@ -0,0 +1,65 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import static com.inditex.similar_products.adapter.in.web.controller.SimilarProductsController.OMITTED_PRODUCTS_HEADER;
+import static com.inditex.similar_products.adapter.in.web.controller.SimilarProductsController.REQUEST_TIMEOUT_HEADER;
+
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponse;
+import com.inditex.similar_products.adapter.in.web.json.ProductJsonArray;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+final class SimilarProductsControllerSupport {
+
+  /**
+   * Builds the request deadline from the {@code X-Request-Timeout} header in milliseconds, the
+   * default timeout when it is missing, capped at the maximum timeout.
+   */
+  static Deadline deadline(String requestTimeout, long defaultTimeout, long maxTimeout) {
+    long timeout;
+    try {
+      timeout = requestTimeout == null ? defaultTimeout : Long.parseLong(requestTimeout.trim());
+    } catch (NumberFormatException e) {
+      throw new InvalidRequestTimeoutException(
+          REQUEST_TIMEOUT_HEADER + " must be a number of milliseconds");
+    }
+    if (timeout <= 0) {
+      throw new InvalidRequestTimeoutException(
+          REQUEST_TIMEOUT_HEADER + " must be a positive number of milliseconds");
+    }
+    return Deadline.after(Duration.ofMillis(Math.min(timeout, maxTimeout)));
+  }
+
+  static CacheControl cacheControl(long maxAge, long staleWhileRevalidate) {
+    var cacheControl = maxAge > 0 ? CacheControl.maxAge(Duration.ofMillis(maxAge))
+        : CacheControl.noCache();
+    return staleWhileRevalidate > 0
+        ? cacheControl.staleWhileRevalidate(Duration.ofMillis(staleWhileRevalidate))
+        : cacheControl;
+  }
+
+  static ResponseEntity<ProductJsonArray> ok(SimilarProductsResponse response,
+      CacheControl cacheControl) {
+    return ResponseEntity.ok()
+        .eTag(response.eTag())
+        .cacheControl(cacheControl)
+        .body(new ProductJsonArray(response.products()));
+  }
+
+  static ResponseEntity<ProductJsonArray> ok(PartialProducts availableProducts) {
+    var response = ResponseEntity.ok();
+    if (!availableProducts.omittedProductIds().isEmpty()) {
+      response.header(OMITTED_PRODUCTS_HEADER, availableProducts.omittedProductIds().stream()
+          .map(ProductId::value)
+          .collect(Collectors.joining(",")));
+    }
+    return response.cacheControl(CacheControl.noStore())
+        .body(new ProductJsonArray(availableProducts.products()));
+  }
+}
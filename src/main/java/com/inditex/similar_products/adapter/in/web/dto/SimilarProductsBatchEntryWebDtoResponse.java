@@ -0,0 +1,12 @@
+package com.inditex.similar_products.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import org.springframework.http.ProblemDetail;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SimilarProductsBatchEntryWebDtoResponse(int status,
+                                                      List<ProductWebDtoResponse> products,
+                                                      ProblemDetail error) {
+
+}
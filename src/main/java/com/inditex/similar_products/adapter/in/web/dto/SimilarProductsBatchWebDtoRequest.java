@@ -0,0 +1,7 @@
+package com.inditex.similar_products.adapter.in.web.dto;
+
+import java.util.List;
+
+public record SimilarProductsBatchWebDtoRequest(List<String> ids) {
+
+}
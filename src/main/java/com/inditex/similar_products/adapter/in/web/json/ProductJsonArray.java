@@ -0,0 +1,8 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import com.inditex.similar_products.domain.model.Product;
+import java.util.List;
+
+public record ProductJsonArray(List<Product> products) {
+
+}
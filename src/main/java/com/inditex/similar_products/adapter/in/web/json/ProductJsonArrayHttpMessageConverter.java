@@ -0,0 +1,54 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductJsonArrayHttpMessageConverter
+    extends AbstractHttpMessageConverter<ProductJsonArray> implements MeterBinder {
+
+  private final ProductJsonFragmentCache fragmentCache;
+
+  public ProductJsonArrayHttpMessageConverter(ObjectMapper objectMapper,
+      @Value("${similar-products.json-fragment-cache.max-size}") long maxSize) {
+    super(MediaType.APPLICATION_JSON);
+    this.fragmentCache = new ProductJsonFragmentCache(objectMapper, maxSize);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ProductJsonArray.class == clazz;
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected ProductJsonArray readInternal(Class<? extends ProductJsonArray> clazz,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Product arrays are not readable", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(ProductJsonArray productJsonArray, HttpOutputMessage outputMessage)
+      throws IOException {
+    fragmentCache.writeArray(productJsonArray.products(), outputMessage.getBody());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, fragmentCache.getCache(), "product-json-fragments");
+  }
+}
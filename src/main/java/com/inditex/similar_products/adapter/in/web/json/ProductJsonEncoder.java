@@ -0,0 +1,50 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.domain.model.Product;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import lombok.NoArgsConstructor;
+
+/**
+ * Writes a {@link Product} as the JSON of its {@code ProductWebDtoResponse} (same fields, order
+ * and null handling) straight from the domain object, without mapping it to the DTO or going
+ * through data binding. Generators are created by {@link ObjectMapper#createGenerator}, so the
+ * mapper's output settings still apply.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class ProductJsonEncoder {
+
+  private static final int INITIAL_CAPACITY = 128;
+
+  public static void write(Product product, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("id", product.getId().value());
+    generator.writeStringField("name", product.getName());
+    generator.writeFieldName("price");
+    generator.writeNumber(product.getPrice());
+    generator.writeFieldName("availability");
+    if (product.getIsAvailable() == null) {
+      generator.writeNull();
+    } else {
+      generator.writeBoolean(product.getIsAvailable());
+    }
+    generator.writeEndObject();
+  }
+
+  public static void write(ObjectMapper objectMapper, Product product, OutputStream out)
+      throws IOException {
+    try (var generator = objectMapper.createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      write(product, generator);
+    }
+  }
+
+  public static byte[] encode(ObjectMapper objectMapper, Product product) throws IOException {
+    var bytes = new ByteArrayOutputStream(INITIAL_CAPACITY);
+    write(objectMapper, product, bytes);
+    return bytes.toByteArray();
+  }
+}
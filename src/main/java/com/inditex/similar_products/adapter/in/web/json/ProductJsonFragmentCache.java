@@ -0,0 +1,58 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.domain.model.Product;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * UTF-8 JSON encoding of each product, as Jackson writes its {@code ProductWebDtoResponse}, cached
+ * by product value, so a product whose name, price or availability changes gets a new fragment.
+ * A response array is written by copying the cached fragments between brackets and commas, which
+ * gives the same bytes as serializing the mapped list with the same {@link ObjectMapper}.
+ */
+public class ProductJsonFragmentCache {
+
+  private final ObjectMapper objectMapper;
+
+  private final Cache<Product, byte[]> fragments;
+
+  public ProductJsonFragmentCache(ObjectMapper objectMapper, long maxSize) {
+    this.objectMapper = objectMapper;
+    this.fragments = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+  }
+
+  public Cache<Product, byte[]> getCache() {
+    return fragments;
+  }
+
+  public byte[] fragment(Product product) {
+    return fragments.get(product, this::encode);
+  }
+
+  public void writeArray(List<Product> products, OutputStream out) throws IOException {
+    out.write('[');
+    for (int i = 0; i < products.size(); i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.write(fragment(products.get(i)));
+    }
+    out.write(']');
+  }
+
+  private byte[] encode(Product product) {
+    try {
+      return ProductJsonEncoder.encode(objectMapper, product);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
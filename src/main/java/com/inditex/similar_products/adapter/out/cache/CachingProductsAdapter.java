@@ -0,0 +1,239 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProduct;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProductIds;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Caches product details in their compact form ({@link CompactProduct}, keyed by
+ * {@link CompactProductIds#key}); products are only materialized when they cross the port.
+ * Misses are loaded from the delegate, while background reloads and {@link #refresh} load from
+ * the refresh delegate, which may skip tiers that would give back data as old as the cached one.
+ */
+public class CachingProductsAdapter implements GetProductsByIdsPort, MeterBinder {
+
+  private final GetProductsByIdsPort delegate;
+
+  private final GetProductsByIdsPort refreshDelegate;
+
+  private final LoadingCache<Object, CompactProduct> productCache;
+
+  private final List<Consumer<ProductId>> changeListeners = new CopyOnWriteArrayList<>();
+
+  public CachingProductsAdapter(GetProductsByIdsPort delegate,
+      Caffeine<Object, Object> cacheBuilder) {
+    this(delegate, delegate, cacheBuilder);
+  }
+
+  public CachingProductsAdapter(GetProductsByIdsPort delegate,
+      GetProductsByIdsPort refreshDelegate, Caffeine<Object, Object> cacheBuilder) {
+    this.delegate = delegate;
+    this.refreshDelegate = refreshDelegate;
+    this.productCache = cacheBuilder
+        .<Object, CompactProduct>removalListener(this::onRemoval)
+        .build(new ProductCacheLoader(delegate, refreshDelegate));
+  }
+
+  @Override
+  public List<Product> getProducts(List<ProductId> productIds) {
+    var products = productCache.getAll(productIds.stream().map(CompactProductIds::key).toList());
+    return productIds.stream()
+        .map(id -> {
+          var product = products.get(CompactProductIds.key(id));
+          return product == null ? null : product.toProduct(id);
+        })
+        .toList();
+  }
+
+  @Override
+  public PartialProducts getAvailableProducts(List<ProductId> productIds) {
+    var products = getAllPresent(productIds);
+    var missingIds = productIds.stream().filter(id -> !products.containsKey(id)).distinct()
+        .toList();
+    if (!missingIds.isEmpty()) {
+      var loaded = loadAvailable(delegate, missingIds);
+      putAll(loaded);
+      products.putAll(loaded);
+    }
+    return new PartialProducts(
+        productIds.stream().map(products::get).filter(Objects::nonNull).toList(),
+        productIds.stream().filter(id -> !products.containsKey(id)).toList());
+  }
+
+  @Override
+  public List<ProductId> streamAvailableProducts(List<ProductId> productIds, boolean ordered,
+      Consumer<Product> onProduct) {
+    var cached = getAllPresent(productIds);
+    var missingIds = productIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    if (!ordered) {
+      productIds.stream().map(cached::get).filter(Objects::nonNull).forEach(onProduct);
+      return missingIds.isEmpty() ? List.of() : delegate.streamAvailableProducts(missingIds,
+          false, product -> {
+            put(product);
+            onProduct.accept(product);
+          });
+    }
+    var next = new AtomicInteger();
+    var omittedProductIds = missingIds.isEmpty() ? List.<ProductId>of()
+        : delegate.streamAvailableProducts(missingIds, true, product -> {
+          put(product);
+          emitCachedUntil(productIds, cached, next, product.getId(), onProduct);
+          onProduct.accept(product);
+        });
+    emitCachedUntil(productIds, cached, next, null, onProduct);
+    return omittedProductIds;
+  }
+
+  /**
+   * Returns the cached details of a product without loading them or counting the lookup in the
+   * cache statistics.
+   */
+  public Optional<Product> getCachedProduct(ProductId productId) {
+    return Optional.ofNullable(productCache.policy()
+            .getIfPresentQuietly(CompactProductIds.key(productId)))
+        .map(product -> product.toProduct(productId));
+  }
+
+  public List<ProductId> refresh(List<ProductId> productIds) {
+    var distinctIds = productIds.stream().distinct().toList();
+    var loaded = loadAvailable(refreshDelegate, distinctIds);
+    putAll(loaded);
+    return distinctIds.stream().filter(id -> !loaded.containsKey(id)).toList();
+  }
+
+  /**
+   * Registers a listener called with the id of every cached product that is replaced by a
+   * different version, expires or is evicted. Listeners run after the change, asynchronously.
+   */
+  public void addChangeListener(Consumer<ProductId> listener) {
+    changeListeners.add(listener);
+  }
+
+  public Map<ProductId, Product> snapshot() {
+    var products = new HashMap<ProductId, Product>();
+    productCache.asMap().forEach((key, product) -> {
+      var productId = CompactProductIds.productId(key);
+      products.put(productId, product.toProduct(productId));
+    });
+    return Map.copyOf(products);
+  }
+
+  public void restore(Map<ProductId, Product> products) {
+    putAll(products);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, productCache, "products");
+  }
+
+  private Map<ProductId, Product> getAllPresent(List<ProductId> productIds) {
+    var products = new HashMap<ProductId, Product>();
+    for (var productId : productIds) {
+      var product = productCache.getIfPresent(CompactProductIds.key(productId));
+      if (product != null) {
+        products.put(productId, product.toProduct(productId));
+      }
+    }
+    return products;
+  }
+
+  private void put(Product product) {
+    productCache.put(CompactProductIds.key(product.getId()), CompactProduct.of(product));
+  }
+
+  private void putAll(Map<ProductId, Product> products) {
+    products.forEach((productId, product) -> productCache.put(CompactProductIds.key(productId),
+        CompactProduct.of(product)));
+  }
+
+  static void emitCachedUntil(List<ProductId> productIds, Map<ProductId, Product> cached,
+      AtomicInteger next, ProductId loadedId, Consumer<Product> onProduct) {
+    while (next.get() < productIds.size()) {
+      var id = productIds.get(next.getAndIncrement());
+      if (id.equals(loadedId)) {
+        return;
+      }
+      var product = cached.get(id);
+      if (product != null) {
+        onProduct.accept(product);
+      }
+    }
+  }
+
+  private void onRemoval(Object key, CompactProduct product, RemovalCause cause) {
+    if (cause == RemovalCause.REPLACED
+        && Objects.equals(product, productCache.policy().getIfPresentQuietly(key))) {
+      return;
+    }
+    var productId = CompactProductIds.productId(key);
+    changeListeners.forEach(listener -> listener.accept(productId));
+  }
+
+  private static Map<ProductId, Product> loadAvailable(GetProductsByIdsPort source,
+      List<ProductId> productIds) {
+    var available = source.getAvailableProducts(productIds);
+    var omittedIds = new HashSet<>(available.omittedProductIds());
+    var loadedProducts = available.products().iterator();
+    var loaded = new HashMap<ProductId, Product>(productIds.size());
+    for (var id : productIds) {
+      if (!omittedIds.contains(id)) {
+        loaded.put(id, loadedProducts.next());
+      }
+    }
+    return loaded;
+  }
+
+  private record ProductCacheLoader(GetProductsByIdsPort delegate,
+                                    GetProductsByIdsPort refreshDelegate) implements
+      CacheLoader<Object, CompactProduct> {
+
+    @Override
+    public CompactProduct load(Object key) {
+      return load(delegate, key);
+    }
+
+    @Override
+    public CompactProduct reload(Object key, CompactProduct oldValue) {
+      return load(refreshDelegate, key);
+    }
+
+    @Override
+    public Map<Object, CompactProduct> loadAll(Set<?> keys) {
+      List<Object> ids = List.copyOf(keys);
+      var products = delegate.getProducts(ids.stream().map(CompactProductIds::productId).toList());
+      var loaded = new HashMap<Object, CompactProduct>(ids.size());
+      for (int i = 0; i < ids.size(); i++) {
+        if (products.get(i) != null) {
+          loaded.put(ids.get(i), CompactProduct.of(products.get(i)));
+        }
+      }
+      return loaded;
+    }
+
+    private static CompactProduct load(GetProductsByIdsPort source, Object key) {
+      var product = source.getProducts(List.of(CompactProductIds.productId(key))).get(0);
+      return product == null ? null : CompactProduct.of(product);
+    }
+  }
+}
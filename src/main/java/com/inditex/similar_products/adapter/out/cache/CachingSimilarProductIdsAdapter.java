@@ -0,0 +1,128 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProductIdList;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProductIds;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Caches the similar ids of each product as a {@link CompactProductIdList}, keyed by
+ * {@link CompactProductIds#key}, and the products the API does not know. A product that is not
+ * found is kept with one {@link ProductNotFoundException} without a stack trace, thrown again on
+ * every cached hit instead of building a new one. {@link #refresh} loads from the refresh
+ * delegate, which may skip tiers that would give back data as old as the cached one.
+ */
+public class CachingSimilarProductIdsAdapter implements GetSimilarProductIdsPort, MeterBinder {
+
+  private final GetSimilarProductIdsPort delegate;
+
+  private final GetSimilarProductIdsPort refreshDelegate;
+
+  private final Cache<Object, CompactProductIdList> similarProductIdsCache;
+
+  private final Cache<Object, ProductNotFoundException> notFoundCache;
+
+  private final List<Consumer<ProductId>> changeListeners = new CopyOnWriteArrayList<>();
+
+  public CachingSimilarProductIdsAdapter(GetSimilarProductIdsPort delegate,
+      Caffeine<Object, Object> similarProductIdsCacheBuilder,
+      Caffeine<Object, Object> notFoundCacheBuilder) {
+    this(delegate, delegate, similarProductIdsCacheBuilder, notFoundCacheBuilder);
+  }
+
+  public CachingSimilarProductIdsAdapter(GetSimilarProductIdsPort delegate,
+      GetSimilarProductIdsPort refreshDelegate,
+      Caffeine<Object, Object> similarProductIdsCacheBuilder,
+      Caffeine<Object, Object> notFoundCacheBuilder) {
+    this.delegate = delegate;
+    this.refreshDelegate = refreshDelegate;
+    this.similarProductIdsCache = similarProductIdsCacheBuilder
+        .<Object, CompactProductIdList>removalListener(this::onRemoval)
+        .build();
+    this.notFoundCache = notFoundCacheBuilder.build();
+  }
+
+  @Override
+  public List<ProductId> getSimilarProductIds(ProductId productId) {
+    var key = CompactProductIds.key(productId);
+    var notFound = notFoundCache.getIfPresent(key);
+    if (notFound != null) {
+      throw notFound;
+    }
+    try {
+      return similarProductIdsCache.get(key, ignored -> CompactProductIdList.of(
+          delegate.getSimilarProductIds(productId))).toProductIds();
+    } catch (ProductNotFoundException e) {
+      notFoundCache.put(key, notFound(productId));
+      throw e;
+    }
+  }
+
+  public List<ProductId> refresh(ProductId productId) {
+    var key = CompactProductIds.key(productId);
+    try {
+      var similarProductIds = refreshDelegate.getSimilarProductIds(productId);
+      similarProductIdsCache.put(key, CompactProductIdList.of(similarProductIds));
+      notFoundCache.invalidate(key);
+      return similarProductIds;
+    } catch (ProductNotFoundException e) {
+      similarProductIdsCache.invalidate(key);
+      notFoundCache.put(key, notFound(productId));
+      throw e;
+    }
+  }
+
+  /**
+   * Registers a listener called with the id of every product whose cached similar ids are
+   * replaced by a different list, expire or are evicted.
+   */
+  public void addChangeListener(Consumer<ProductId> listener) {
+    changeListeners.add(listener);
+  }
+
+  public Map<ProductId, List<ProductId>> snapshot() {
+    var similarProductIds = new HashMap<ProductId, List<ProductId>>();
+    similarProductIdsCache.asMap().forEach((key, ids) ->
+        similarProductIds.put(CompactProductIds.productId(key), ids.toProductIds()));
+    return Map.copyOf(similarProductIds);
+  }
+
+  public void restore(Map<ProductId, List<ProductId>> similarProductIds) {
+    similarProductIds.forEach((productId, ids) -> similarProductIdsCache.put(
+        CompactProductIds.key(productId), CompactProductIdList.of(ids)));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, similarProductIdsCache, "similar-ids");
+    CaffeineCacheMetrics.monitor(registry, notFoundCache, "not-found");
+  }
+
+  private static ProductNotFoundException notFound(ProductId productId) {
+    return ProductNotFoundException.withoutStackTrace(
+        "Product " + productId.value() + " was not found");
+  }
+
+  private void onRemoval(Object key, CompactProductIdList similarProductIds,
+      RemovalCause cause) {
+    if (cause == RemovalCause.REPLACED && Objects.equals(similarProductIds,
+        similarProductIdsCache.policy().getIfPresentQuietly(key))) {
+      return;
+    }
+    var productId = CompactProductIds.productId(key);
+    changeListeners.forEach(listener -> listener.accept(productId));
+  }
+}
@@ -0,0 +1,132 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the similar ids and the product details of a fixed list of hot products into the caches,
+ * with at most {@code parallelism} product API calls in flight and an overall timeout. Used to
+ * warm the caches up at startup and to refresh the hot entries before they expire.
+ */
+@Slf4j
+public class ProductCacheWarmer {
+
+  private final CachingSimilarProductIdsAdapter similarProductIdsCache;
+
+  private final CachingProductsAdapter productsCache;
+
+  private final ExecutorService executor;
+
+  private final List<ProductId> hotProductIds;
+
+  private final int parallelism;
+
+  public ProductCacheWarmer(CachingSimilarProductIdsAdapter similarProductIdsCache,
+      CachingProductsAdapter productsCache, ExecutorService executor,
+      List<ProductId> hotProductIds, int parallelism) {
+    this.similarProductIdsCache = similarProductIdsCache;
+    this.productsCache = productsCache;
+    this.executor = executor;
+    this.hotProductIds = List.copyOf(hotProductIds);
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  public List<ProductId> getHotProductIds() {
+    return hotProductIds;
+  }
+
+  public WarmUpResult warmUp(Duration timeout) {
+    if (hotProductIds.isEmpty()) {
+      return new WarmUpResult(0, 0, 0, false);
+    }
+    return DeadlineContext.supplyWithin(Deadline.after(timeout), this::loadHotEntries);
+  }
+
+  private WarmUpResult loadHotEntries() {
+    var deadline = DeadlineContext.current().orElseThrow();
+    var failures = new AtomicInteger();
+    var similarProductIds = loadSimilarProductIds(deadline, failures);
+    var timedOut = similarProductIds == null;
+    var productIds = timedOut ? List.<ProductId>of() : similarProductIds;
+    var loadedProducts = 0;
+    for (int from = 0; from < productIds.size(); from += parallelism) {
+      if (deadline.isExpired()) {
+        timedOut = true;
+        break;
+      }
+      var chunk = productIds.subList(from, Math.min(from + parallelism, productIds.size()));
+      try {
+        var omittedProductIds = productsCache.refresh(chunk);
+        loadedProducts += chunk.size() - omittedProductIds.size();
+        failures.addAndGet(omittedProductIds.size());
+      } catch (RuntimeException e) {
+        log.warn("Could not warm up products {}: {}", chunk, e.getMessage());
+        failures.addAndGet(chunk.size());
+      }
+    }
+    return new WarmUpResult(hotProductIds.size(), loadedProducts, failures.get(),
+        timedOut || deadline.isExpired());
+  }
+
+  private List<ProductId> loadSimilarProductIds(Deadline deadline, AtomicInteger failures) {
+    var permits = new Semaphore(parallelism);
+    var futures = hotProductIds.stream()
+        .map(id -> CompletableFuture.supplyAsync(DeadlineContext.propagating(
+            () -> loadSimilarProductIds(id, permits, failures)), executor))
+        .toList();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+          .get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      futures.forEach(f -> f.cancel(true));
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(f -> f.cancel(true));
+      return null;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Unexpected warm-up failure", e.getCause());
+    }
+    var productIds = new LinkedHashSet<ProductId>();
+    futures.forEach(f -> productIds.addAll(f.join()));
+    return new ArrayList<>(productIds);
+  }
+
+  private List<ProductId> loadSimilarProductIds(ProductId productId, Semaphore permits,
+      AtomicInteger failures) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return List.of();
+    }
+    try {
+      return similarProductIdsCache.refresh(productId);
+    } catch (RuntimeException e) {
+      log.warn("Could not warm up similar ids of product {}: {}", productId.value(),
+          e.getMessage());
+      failures.incrementAndGet();
+      return List.of();
+    } finally {
+      permits.release();
+    }
+  }
+
+  public record WarmUpResult(int hotProducts, int loadedProducts, int failures,
+      boolean timedOut) {
+
+  }
+}
@@ -0,0 +1,338 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import com.inditex.similar_products.adapter.out.cache.shared.SharedCache;
+import com.inditex.similar_products.adapter.out.cache.shared.SharedCacheCodec;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Second cache tier, between the in-process caches and the product API. Every batch of ids is
+ * looked up in the {@link SharedCache} with a single multi-get; only the misses reach the
+ * delegates, and what they return is written back to the shared cache in the background
+ * (write-behind), so a product fetched by one instance is served to the others from the shared
+ * cache. At most {@code maxPendingWrites} writes are queued; later ones are dropped. A shared
+ * cache that fails or holds an unreadable value counts as a miss. Products that are not found are
+ * not stored in the shared cache. Refreshes and warm-ups go through {@link #refreshing()}, which
+ * loads from the delegates without reading the shared cache and writes the result through to it,
+ * so an in-memory entry is never renewed from a shared one that may be as old as itself.
+ */
+@Slf4j
+public class SharedCacheAdapter implements GetProductsByIdsPort, GetSimilarProductIdsPort {
+
+  private final GetProductsByIdsPort productsDelegate;
+
+  private final GetSimilarProductIdsPort similarProductIdsDelegate;
+
+  private final SharedCache sharedCache;
+
+  private final Executor writeExecutor;
+
+  private final String productKeyPrefix;
+
+  private final String similarProductIdsKeyPrefix;
+
+  private final Duration productsTtl;
+
+  private final Duration similarProductIdsTtl;
+
+  private final Semaphore pendingWrites;
+
+  private final LongAdder productHits = new LongAdder();
+
+  private final LongAdder productMisses = new LongAdder();
+
+  private final LongAdder similarProductIdsHits = new LongAdder();
+
+  private final LongAdder similarProductIdsMisses = new LongAdder();
+
+  private final LongAdder errors = new LongAdder();
+
+  private final LongAdder writes = new LongAdder();
+
+  private final LongAdder droppedWrites = new LongAdder();
+
+  private final Refreshing refreshing = new Refreshing();
+
+  public SharedCacheAdapter(GetProductsByIdsPort productsDelegate,
+      GetSimilarProductIdsPort similarProductIdsDelegate, SharedCache sharedCache,
+      Executor writeExecutor, SharedCacheAdapterConfig config) {
+    this.productsDelegate = productsDelegate;
+    this.similarProductIdsDelegate = similarProductIdsDelegate;
+    this.sharedCache = sharedCache;
+    this.writeExecutor = writeExecutor;
+    this.productKeyPrefix = config.keyPrefix() + ":product:";
+    this.similarProductIdsKeyPrefix = config.keyPrefix() + ":similar-ids:";
+    this.productsTtl = config.productsTtl();
+    this.similarProductIdsTtl = config.similarProductIdsTtl();
+    this.pendingWrites = new Semaphore(Math.max(1, config.maxPendingWrites()));
+  }
+
+  @Override
+  public List<ProductId> getSimilarProductIds(ProductId productId) {
+    var key = similarProductIdsKeyPrefix + productId.value();
+    var cached = read(List.of(key)).get(0);
+    if (cached != null) {
+      try {
+        var similarProductIds = SharedCacheCodec.decodeProductIds(cached);
+        similarProductIdsHits.increment();
+        return similarProductIds;
+      } catch (IllegalArgumentException e) {
+        log.debug("Ignoring unreadable shared cache value {}: {}", key, e.getMessage());
+      }
+    }
+    similarProductIdsMisses.increment();
+    var similarProductIds = similarProductIdsDelegate.getSimilarProductIds(productId);
+    writeBehind(Map.of(key, SharedCacheCodec.encodeProductIds(similarProductIds)),
+        similarProductIdsTtl);
+    return similarProductIds;
+  }
+
+  @Override
+  public List<Product> getProducts(List<ProductId> productIds) {
+    var products = readProducts(productIds);
+    var missingIds = productIds.stream().filter(id -> !products.containsKey(id)).distinct()
+        .toList();
+    if (!missingIds.isEmpty()) {
+      var loaded = productsDelegate.getProducts(missingIds);
+      for (int i = 0; i < missingIds.size(); i++) {
+        products.put(missingIds.get(i), loaded.get(i));
+      }
+      writeProductsBehind(loaded);
+    }
+    return productIds.stream().map(products::get).toList();
+  }
+
+  @Override
+  public PartialProducts getAvailableProducts(List<ProductId> productIds) {
+    var products = readProducts(productIds);
+    var missingIds = productIds.stream().filter(id -> !products.containsKey(id)).distinct()
+        .toList();
+    if (!missingIds.isEmpty()) {
+      var loaded = productsDelegate.getAvailableProducts(missingIds).products();
+      loaded.forEach(product -> products.put(product.getId(), product));
+      writeProductsBehind(loaded);
+    }
+    return new PartialProducts(
+        productIds.stream().map(products::get).filter(Objects::nonNull).toList(),
+        productIds.stream().filter(id -> !products.containsKey(id)).toList());
+  }
+
+  @Override
+  public List<ProductId> streamAvailableProducts(List<ProductId> productIds, boolean ordered,
+      Consumer<Product> onProduct) {
+    var cached = readProducts(productIds);
+    var missingIds = productIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    var loaded = new ConcurrentLinkedQueue<Product>();
+    List<ProductId> omittedProductIds;
+    if (!ordered) {
+      productIds.stream().map(cached::get).filter(Objects::nonNull).forEach(onProduct);
+      omittedProductIds = missingIds.isEmpty() ? List.of()
+          : productsDelegate.streamAvailableProducts(missingIds, false, product -> {
+            loaded.add(product);
+            onProduct.accept(product);
+          });
+    } else {
+      var next = new AtomicInteger();
+      omittedProductIds = missingIds.isEmpty() ? List.of()
+          : productsDelegate.streamAvailableProducts(missingIds, true, product -> {
+            loaded.add(product);
+            CachingProductsAdapter.emitCachedUntil(productIds, cached, next, product.getId(),
+                onProduct);
+            onProduct.accept(product);
+          });
+      CachingProductsAdapter.emitCachedUntil(productIds, cached, next, null, onProduct);
+    }
+    writeProductsBehind(loaded);
+    return omittedProductIds;
+  }
+
+  public Refreshing refreshing() {
+    return refreshing;
+  }
+
+  public long productHits() {
+    return productHits.sum();
+  }
+
+  public long productMisses() {
+    return productMisses.sum();
+  }
+
+  public long similarProductIdsHits() {
+    return similarProductIdsHits.sum();
+  }
+
+  public long similarProductIdsMisses() {
+    return similarProductIdsMisses.sum();
+  }
+
+  public long errors() {
+    return errors.sum();
+  }
+
+  public long writes() {
+    return writes.sum();
+  }
+
+  public long droppedWrites() {
+    return droppedWrites.sum();
+  }
+
+  private Map<ProductId, Product> readProducts(List<ProductId> productIds) {
+    var distinctIds = productIds.stream().distinct().toList();
+    var values = read(distinctIds.stream().map(id -> productKeyPrefix + id.value()).toList());
+    var products = new HashMap<ProductId, Product>(distinctIds.size());
+    for (int i = 0; i < distinctIds.size(); i++) {
+      var product = decodeProduct(distinctIds.get(i), values.get(i));
+      if (product != null) {
+        products.put(distinctIds.get(i), product);
+      }
+    }
+    productHits.add(products.size());
+    productMisses.add(distinctIds.size() - products.size());
+    return products;
+  }
+
+  private Product decodeProduct(ProductId productId, byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      var product = SharedCacheCodec.decodeProduct(value);
+      return productId.equals(product.getId()) ? product : null;
+    } catch (IllegalArgumentException e) {
+      log.debug("Ignoring unreadable shared cache value for product {}: {}", productId.value(),
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private List<byte[]> read(List<String> keys) {
+    try {
+      return sharedCache.getAll(keys);
+    } catch (RuntimeException e) {
+      errors.increment();
+      log.debug("Shared cache read failed: {}", e.getMessage());
+      return Arrays.asList(new byte[keys.size()][]);
+    }
+  }
+
+  private void writeProductsBehind(Collection<Product> products) {
+    writeBehind(productEntries(products), productsTtl);
+  }
+
+  private Map<String, byte[]> productEntries(Collection<Product> products) {
+    var entries = new LinkedHashMap<String, byte[]>();
+    for (var product : products) {
+      if (product != null) {
+        entries.put(productKeyPrefix + product.getId().value(),
+            SharedCacheCodec.encodeProduct(product));
+      }
+    }
+    return entries;
+  }
+
+  private void writeBehind(Map<String, byte[]> entries, Duration ttl) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    if (!pendingWrites.tryAcquire()) {
+      droppedWrites.increment();
+      return;
+    }
+    try {
+      writeExecutor.execute(() -> {
+        try {
+          writeThrough(entries, ttl);
+        } finally {
+          pendingWrites.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      pendingWrites.release();
+      droppedWrites.increment();
+    }
+  }
+
+  private void writeThrough(Map<String, byte[]> entries, Duration ttl) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    try {
+      sharedCache.putAll(entries, ttl);
+      writes.add(entries.size());
+    } catch (RuntimeException e) {
+      errors.increment();
+      log.debug("Shared cache write failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * The same ports for refreshes: they always load from the delegates and write what they load
+   * through to the shared cache before returning it.
+   */
+  public final class Refreshing implements GetProductsByIdsPort, GetSimilarProductIdsPort {
+
+    private Refreshing() {
+    }
+
+    @Override
+    public List<ProductId> getSimilarProductIds(ProductId productId) {
+      var similarProductIds = similarProductIdsDelegate.getSimilarProductIds(productId);
+      writeThrough(Map.of(similarProductIdsKeyPrefix + productId.value(),
+          SharedCacheCodec.encodeProductIds(similarProductIds)), similarProductIdsTtl);
+      return similarProductIds;
+    }
+
+    @Override
+    public List<Product> getProducts(List<ProductId> productIds) {
+      var products = productsDelegate.getProducts(productIds);
+      writeThrough(productEntries(products), productsTtl);
+      return products;
+    }
+
+    @Override
+    public PartialProducts getAvailableProducts(List<ProductId> productIds) {
+      var products = productsDelegate.getAvailableProducts(productIds);
+      writeThrough(productEntries(products.products()), productsTtl);
+      return products;
+    }
+
+    @Override
+    public List<ProductId> streamAvailableProducts(List<ProductId> productIds, boolean ordered,
+        Consumer<Product> onProduct) {
+      var loaded = new ConcurrentLinkedQueue<Product>();
+      var omittedProductIds = productsDelegate.streamAvailableProducts(productIds, ordered,
+          product -> {
+            loaded.add(product);
+            onProduct.accept(product);
+          });
+      writeThrough(productEntries(loaded), productsTtl);
+      return omittedProductIds;
+    }
+  }
+
+  public record SharedCacheAdapterConfig(String keyPrefix, Duration productsTtl,
+                                         Duration similarProductIdsTtl, int maxPendingWrites) {
+
+  }
+}
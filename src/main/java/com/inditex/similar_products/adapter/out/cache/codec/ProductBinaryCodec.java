@@ -0,0 +1,122 @@
+package com.inditex.similar_products.adapter.out.cache.codec;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NoArgsConstructor;
+
+/**
+ * Binary layout of products and product ids shared by the cache snapshot file and the shared cache
+ * values: strings are UTF-8 prefixed with their length, prices are the unscaled value and the
+ * scale, and -1 stands for a null length. Malformed input is rejected with an
+ * {@link IllegalArgumentException} or a {@link java.nio.BufferUnderflowException}.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class ProductBinaryCodec {
+
+  private static final int NULL_LENGTH = -1;
+
+  private static final byte UNKNOWN_AVAILABILITY = 2;
+
+  public static void writeProduct(DataOutputStream out, Product product) throws IOException {
+    writeProductId(out, product.getId());
+    writeString(out, product.getName());
+    writeDecimal(out, product.getPrice());
+    out.writeByte(product.getIsAvailable() == null ? UNKNOWN_AVAILABILITY
+        : product.getIsAvailable() ? 1 : 0);
+  }
+
+  public static Product readProduct(ByteBuffer buffer) {
+    var id = readProductId(buffer);
+    var name = readString(buffer);
+    var price = readDecimal(buffer);
+    var availability = buffer.get();
+    return new Product(id, name, price,
+        availability == UNKNOWN_AVAILABILITY ? null : availability == 1);
+  }
+
+  public static void writeProductId(DataOutputStream out, ProductId productId)
+      throws IOException {
+    writeString(out, productId.value());
+  }
+
+  public static ProductId readProductId(ByteBuffer buffer) {
+    return new ProductId(readString(buffer));
+  }
+
+  public static void writeProductIds(DataOutputStream out, List<ProductId> productIds)
+      throws IOException {
+    out.writeInt(productIds.size());
+    for (var productId : productIds) {
+      writeProductId(out, productId);
+    }
+  }
+
+  public static List<ProductId> readProductIds(ByteBuffer buffer) {
+    var count = buffer.getInt();
+    if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+      throw new IllegalArgumentException("Invalid product id count " + count);
+    }
+    var productIds = new ArrayList<ProductId>(count);
+    for (int i = 0; i < count; i++) {
+      productIds.add(readProductId(buffer));
+    }
+    return List.copyOf(productIds);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    var length = readLength(buffer);
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    var bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+    if (value == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    var unscaled = value.unscaledValue().toByteArray();
+    out.writeInt(unscaled.length);
+    out.write(unscaled);
+    out.writeInt(value.scale());
+  }
+
+  private static BigDecimal readDecimal(ByteBuffer buffer) {
+    var length = readLength(buffer);
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    var unscaled = new byte[length];
+    buffer.get(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), buffer.getInt());
+  }
+
+  private static int readLength(ByteBuffer buffer) {
+    var length = buffer.getInt();
+    if (length < NULL_LENGTH || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid length " + length);
+    }
+    return length;
+  }
+}
@@ -0,0 +1,98 @@
+package com.inditex.similar_products.adapter.out.cache.compact;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Cached form of a {@link Product} without its id, which is the cache key. The price is kept as
+ * its unscaled {@code long} and its scale, and the availability as bit flags next to the ones
+ * telling whether price and availability are present, so an entry is one small object plus the
+ * name. A price that does not fit in a {@code long} is kept as it is. {@link #toProduct} gives
+ * back a product equal to the cached one, price scale included.
+ */
+public final class CompactProduct {
+
+  private static final int MAX_LONG_PRECISION = 18;
+
+  private static final byte HAS_PRICE = 1;
+
+  private static final byte HAS_AVAILABILITY = 1 << 1;
+
+  private static final byte AVAILABLE = 1 << 2;
+
+  private final String name;
+
+  private final long unscaledPrice;
+
+  private final BigDecimal widePrice;
+
+  private final byte priceScale;
+
+  private final byte flags;
+
+  private CompactProduct(String name, long unscaledPrice, BigDecimal widePrice, byte priceScale,
+      byte flags) {
+    this.name = name;
+    this.unscaledPrice = unscaledPrice;
+    this.widePrice = widePrice;
+    this.priceScale = priceScale;
+    this.flags = flags;
+  }
+
+  public static CompactProduct of(Product product) {
+    byte flags = 0;
+    if (product.getIsAvailable() != null) {
+      flags |= product.getIsAvailable() ? HAS_AVAILABILITY | AVAILABLE : HAS_AVAILABILITY;
+    }
+    var price = product.getPrice();
+    if (price == null) {
+      return new CompactProduct(product.getName(), 0, null, (byte) 0, flags);
+    }
+    if (price.precision() > MAX_LONG_PRECISION || price.scale() != (byte) price.scale()) {
+      return new CompactProduct(product.getName(), 0, price, (byte) 0, flags);
+    }
+    var unscaledPrice = price.movePointRight(price.scale()).longValueExact();
+    return new CompactProduct(product.getName(), unscaledPrice, null, (byte) price.scale(),
+        (byte) (flags | HAS_PRICE));
+  }
+
+  public Product toProduct(ProductId productId) {
+    return new Product(productId, name, price(), availability());
+  }
+
+  private BigDecimal price() {
+    if ((flags & HAS_PRICE) != 0) {
+      return BigDecimal.valueOf(unscaledPrice, priceScale);
+    }
+    return widePrice;
+  }
+
+  private Boolean availability() {
+    if ((flags & HAS_AVAILABILITY) == 0) {
+      return null;
+    }
+    return (flags & AVAILABLE) != 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompactProduct other)) {
+      return false;
+    }
+    return unscaledPrice == other.unscaledPrice
+        && priceScale == other.priceScale
+        && flags == other.flags
+        && Objects.equals(name, other.name)
+        && Objects.equals(widePrice, other.widePrice);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, unscaledPrice, widePrice, priceScale, flags);
+  }
+}
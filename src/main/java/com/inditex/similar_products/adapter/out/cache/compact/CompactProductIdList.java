@@ -0,0 +1,67 @@
+package com.inditex.similar_products.adapter.out.cache.compact;
+
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A list of product ids kept as a {@code long[]} when every id is numeric (see
+ * {@link CompactProductIds}) and as an array of interned strings otherwise, instead of a list of
+ * {@link ProductId} wrappers around their own strings.
+ */
+public final class CompactProductIdList {
+
+  private final long[] numericIds;
+
+  private final String[] ids;
+
+  private CompactProductIdList(long[] numericIds, String[] ids) {
+    this.numericIds = numericIds;
+    this.ids = ids;
+  }
+
+  public static CompactProductIdList of(List<ProductId> productIds) {
+    if (productIds.stream().allMatch(id -> CompactProductIds.isNumeric(id.value()))) {
+      var numericIds = new long[productIds.size()];
+      for (int i = 0; i < numericIds.length; i++) {
+        numericIds[i] = Long.parseLong(productIds.get(i).value());
+      }
+      return new CompactProductIdList(numericIds, null);
+    }
+    var ids = new String[productIds.size()];
+    for (int i = 0; i < ids.length; i++) {
+      var id = productIds.get(i).value();
+      ids[i] = id == null ? null : CompactProductIds.intern(id);
+    }
+    return new CompactProductIdList(null, ids);
+  }
+
+  public int size() {
+    return numericIds != null ? numericIds.length : ids.length;
+  }
+
+  public List<ProductId> toProductIds() {
+    var productIds = new ProductId[size()];
+    for (int i = 0; i < productIds.length; i++) {
+      productIds[i] = new ProductId(
+          numericIds != null ? Long.toString(numericIds[i]) : ids[i]);
+    }
+    return List.of(productIds);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompactProductIdList other)) {
+      return false;
+    }
+    return Arrays.equals(numericIds, other.numericIds) && Arrays.equals(ids, other.ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(numericIds) + Arrays.hashCode(ids);
+  }
+}
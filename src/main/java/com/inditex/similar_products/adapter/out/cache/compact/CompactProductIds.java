@@ -0,0 +1,57 @@
+package com.inditex.similar_products.adapter.out.cache.compact;
+
+import com.github.benmanes.caffeine.cache.Interner;
+import com.inditex.similar_products.domain.model.ProductId;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache keys for product ids. An id written as a plain non-negative decimal number (no sign and
+ * no leading zeros, so it prints back the same) is kept as a {@link Long}; any other id is kept
+ * as its interned string, shared by every cache that holds it, and an id without a value under
+ * one shared key. {@link #productId} gives back an id equal to the original.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class CompactProductIds {
+
+  private static final int MAX_NUMERIC_LENGTH = 18;
+
+  private static final Interner<String> ID_INTERNER = Interner.newWeakInterner();
+
+  private static final Object NULL_ID_KEY = new ProductId(null);
+
+  public static Object key(ProductId productId) {
+    var value = productId.value();
+    if (value == null) {
+      return NULL_ID_KEY;
+    }
+    if (isNumeric(value)) {
+      return Long.parseLong(value);
+    }
+    return ID_INTERNER.intern(value);
+  }
+
+  public static ProductId productId(Object key) {
+    if (NULL_ID_KEY.equals(key)) {
+      return new ProductId(null);
+    }
+    return new ProductId(key instanceof Long numericId ? Long.toString(numericId) : (String) key);
+  }
+
+  static boolean isNumeric(String value) {
+    if (value == null || value.isEmpty() || value.length() > MAX_NUMERIC_LENGTH
+        || (value.charAt(0) == '0' && value.length() > 1)) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static String intern(String value) {
+    return ID_INTERNER.intern(value);
+  }
+}
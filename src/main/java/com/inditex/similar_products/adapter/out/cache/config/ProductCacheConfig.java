@@ -0,0 +1,84 @@
+package com.inditex.similar_products.adapter.out.cache.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.adapter.out.cache.CachingProductsAdapter;
+import com.inditex.similar_products.adapter.out.cache.CachingSimilarProductIdsAdapter;
+import com.inditex.similar_products.adapter.out.cache.SharedCacheAdapter;
+import com.inditex.similar_products.adapter.out.http.restclient.SimilarProductRestClientAdapter;
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductDetailsValidatorCache;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class ProductCacheConfig {
+
+  @Value("${product-api.cache.products.max-size}")
+  private long productsMaxSize;
+  @Value("${product-api.cache.products.ttl}")
+  private long productsTtl;
+  @Value("${product-api.cache.products.stale-while-revalidate}")
+  private long productsStaleWhileRevalidate;
+  @Value("${product-api.cache.similar-ids.max-size}")
+  private long similarIdsMaxSize;
+  @Value("${product-api.cache.similar-ids.ttl}")
+  private long similarIdsTtl;
+  @Value("${product-api.cache.not-found.max-size}")
+  private long notFoundMaxSize;
+  @Value("${product-api.cache.not-found.ttl}")
+  private long notFoundTtl;
+
+  @Bean
+  @Primary
+  public CachingProductsAdapter cachingProductsAdapter(
+      SimilarProductRestClientAdapter similarProductRestClientAdapter,
+      Optional<SharedCacheAdapter> sharedCacheAdapter, ExecutorService virtualThreadExecutor,
+      ProductDetailsValidatorCache productDetailsValidatorCache) {
+    var cacheBuilder = Caffeine.newBuilder()
+        .maximumSize(productsMaxSize)
+        .expireAfterWrite(Duration.ofMillis(productsTtl + productsStaleWhileRevalidate))
+        .executor(virtualThreadExecutor)
+        .recordStats();
+    if (productsStaleWhileRevalidate > 0) {
+      cacheBuilder.refreshAfterWrite(Duration.ofMillis(productsTtl));
+    }
+    var cachingProductsAdapter = new CachingProductsAdapter(
+        sharedCacheAdapter.<GetProductsByIdsPort>map(Function.identity())
+            .orElse(similarProductRestClientAdapter),
+        sharedCacheAdapter.<GetProductsByIdsPort>map(SharedCacheAdapter::refreshing)
+            .orElse(similarProductRestClientAdapter),
+        cacheBuilder);
+    productDetailsValidatorCache.useCachedProducts(
+        productId -> cachingProductsAdapter.getCachedProduct(new ProductId(productId)));
+    return cachingProductsAdapter;
+  }
+
+  @Bean
+  @Primary
+  public CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter(
+      SimilarProductRestClientAdapter similarProductRestClientAdapter,
+      Optional<SharedCacheAdapter> sharedCacheAdapter) {
+    var similarIdsCacheBuilder = Caffeine.newBuilder()
+        .maximumSize(similarIdsMaxSize)
+        .expireAfterWrite(Duration.ofMillis(similarIdsTtl))
+        .recordStats();
+    var notFoundCacheBuilder = Caffeine.newBuilder()
+        .maximumSize(notFoundMaxSize)
+        .expireAfterWrite(Duration.ofMillis(notFoundTtl))
+        .recordStats();
+    return new CachingSimilarProductIdsAdapter(
+        sharedCacheAdapter.<GetSimilarProductIdsPort>map(Function.identity())
+            .orElse(similarProductRestClientAdapter),
+        sharedCacheAdapter.<GetSimilarProductIdsPort>map(SharedCacheAdapter::refreshing)
+            .orElse(similarProductRestClientAdapter),
+        similarIdsCacheBuilder, notFoundCacheBuilder);
+  }
+}
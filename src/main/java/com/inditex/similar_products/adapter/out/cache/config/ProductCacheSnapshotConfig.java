@@ -0,0 +1,52 @@
+package com.inditex.similar_products.adapter.out.cache.config;
+
+import com.inditex.similar_products.adapter.out.cache.CachingProductsAdapter;
+import com.inditex.similar_products.adapter.out.cache.CachingSimilarProductIdsAdapter;
+import com.inditex.similar_products.adapter.out.cache.snapshot.ProductCacheSnapshotFile;
+import com.inditex.similar_products.adapter.out.cache.snapshot.ProductCacheSnapshotter;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+@ConditionalOnProperty(name = "product-api.cache.snapshot.enabled", havingValue = "true")
+public class ProductCacheSnapshotConfig {
+
+  @Value("${product-api.cache.snapshot.path}")
+  private String path;
+  @Value("${product-api.cache.snapshot.interval}")
+  private long interval;
+
+  @Bean(destroyMethod = "save")
+  public ProductCacheSnapshotter productCacheSnapshotter(
+      CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter,
+      CachingProductsAdapter cachingProductsAdapter) {
+    return new ProductCacheSnapshotter(new ProductCacheSnapshotFile(Path.of(path)),
+        cachingSimilarProductIdsAdapter, cachingProductsAdapter);
+  }
+
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public ApplicationRunner productCacheSnapshotRestoreRunner(
+      ProductCacheSnapshotter productCacheSnapshotter) {
+    return args -> productCacheSnapshotter.restore();
+  }
+
+  @Bean(destroyMethod = "shutdownNow")
+  public ScheduledExecutorService productCacheSnapshotScheduler(
+      ProductCacheSnapshotter productCacheSnapshotter) {
+    var scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("product-cache-snapshot").factory());
+    scheduler.scheduleWithFixedDelay(productCacheSnapshotter::save, interval, interval,
+        TimeUnit.MILLISECONDS);
+    return scheduler;
+  }
+}
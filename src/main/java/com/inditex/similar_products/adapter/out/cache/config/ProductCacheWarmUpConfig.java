@@ -0,0 +1,100 @@
+package com.inditex.similar_products.adapter.out.cache.config;
+
+import com.inditex.similar_products.adapter.out.cache.CachingProductsAdapter;
+import com.inditex.similar_products.adapter.out.cache.CachingSimilarProductIdsAdapter;
+import com.inditex.similar_products.adapter.out.cache.ProductCacheWarmer;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+@Slf4j
+@Configuration
+public class ProductCacheWarmUpConfig {
+
+  @Value("${product-api.cache.warm-up.hot-product-ids}")
+  private Resource hotProductIds;
+  @Value("${product-api.cache.warm-up.parallelism}")
+  private int parallelism;
+  @Value("${product-api.cache.warm-up.timeout}")
+  private long timeout;
+  @Value("${product-api.cache.warm-up.refresh-interval}")
+  private long refreshInterval;
+
+  @Bean
+  public ProductCacheWarmer productCacheWarmer(
+      CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter,
+      CachingProductsAdapter cachingProductsAdapter, ExecutorService virtualThreadExecutor)
+      throws IOException {
+    return new ProductCacheWarmer(cachingSimilarProductIdsAdapter, cachingProductsAdapter,
+        virtualThreadExecutor, readHotProductIds(), parallelism);
+  }
+
+  /**
+   * Runs before the application reports itself ready, so readiness stays
+   * {@code REFUSING_TRAFFIC} until the warm-up completes or times out.
+   */
+  @Bean
+  public ApplicationRunner productCacheWarmUpRunner(ProductCacheWarmer productCacheWarmer) {
+    return args -> {
+      if (productCacheWarmer.getHotProductIds().isEmpty()) {
+        return;
+      }
+      var result = productCacheWarmer.warmUp(Duration.ofMillis(timeout));
+      log.info("Cache warm-up {} for {} hot products: {} products loaded, {} failures",
+          result.timedOut() ? "timed out" : "completed", result.hotProducts(),
+          result.loadedProducts(), result.failures());
+    };
+  }
+
+  @Bean(destroyMethod = "shutdownNow")
+  public ScheduledExecutorService productCacheRefreshScheduler(
+      ProductCacheWarmer productCacheWarmer) {
+    var scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("product-cache-refresh").factory());
+    if (!productCacheWarmer.getHotProductIds().isEmpty() && refreshInterval > 0) {
+      scheduler.scheduleWithFixedDelay(() -> refreshHotEntries(productCacheWarmer),
+          refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+    return scheduler;
+  }
+
+  private void refreshHotEntries(ProductCacheWarmer productCacheWarmer) {
+    try {
+      var result = productCacheWarmer.warmUp(Duration.ofMillis(Math.min(timeout,
+          refreshInterval)));
+      log.debug("Refreshed {} hot products: {} products loaded, {} failures",
+          result.hotProducts(), result.loadedProducts(), result.failures());
+    } catch (RuntimeException e) {
+      log.warn("Could not refresh the hot products", e);
+    }
+  }
+
+  private List<ProductId> readHotProductIds() throws IOException {
+    if (hotProductIds == null) {
+      return List.of();
+    }
+    try (var reader = new BufferedReader(
+        new InputStreamReader(hotProductIds.getInputStream(), StandardCharsets.UTF_8))) {
+      return reader.lines()
+          .map(String::strip)
+          .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+          .distinct()
+          .map(ProductId::new)
+          .toList();
+    }
+  }
+}
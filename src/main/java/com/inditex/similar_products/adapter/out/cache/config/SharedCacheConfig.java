@@ -0,0 +1,141 @@
+package com.inditex.similar_products.adapter.out.cache.config;
+
+import com.inditex.similar_products.adapter.out.cache.SharedCacheAdapter;
+import com.inditex.similar_products.adapter.out.cache.SharedCacheAdapter.SharedCacheAdapterConfig;
+import com.inditex.similar_products.adapter.out.cache.shared.RedisSharedCache;
+import com.inditex.similar_products.adapter.out.cache.shared.RedisSharedCache.RedisSharedCacheConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.SimilarProductRestClientAdapter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "product-api.cache.shared.enabled", havingValue = "true")
+public class SharedCacheConfig {
+
+  private static final String CACHE_TAG = "cache";
+
+  private static final String RESULT_TAG = "result";
+
+  private static final String PRODUCTS_CACHE = "products-shared";
+
+  private static final String SIMILAR_IDS_CACHE = "similar-ids-shared";
+
+  @Value("${product-api.cache.shared.host}")
+  private String host;
+  @Value("${product-api.cache.shared.port}")
+  private int port;
+  @Value("${product-api.cache.shared.connect-timeout}")
+  private long connectTimeout;
+  @Value("${product-api.cache.shared.read-timeout}")
+  private long readTimeout;
+  @Value("${product-api.cache.shared.username}")
+  private String username;
+  @Value("${product-api.cache.shared.password}")
+  private String password;
+  @Value("${product-api.cache.shared.database}")
+  private int database;
+  @Value("${product-api.cache.shared.ssl}")
+  private boolean ssl;
+  @Value("${product-api.cache.shared.key-prefix}")
+  private String keyPrefix;
+  @Value("${product-api.cache.shared.max-pending-writes}")
+  private int maxPendingWrites;
+  @Value("${product-api.cache.shared.circuit-breaker.failure-rate-threshold}")
+  private float failureRateThreshold;
+  @Value("${product-api.cache.shared.circuit-breaker.sliding-window-size}")
+  private int slidingWindowSize;
+  @Value("${product-api.cache.shared.circuit-breaker.minimum-number-of-calls}")
+  private int minimumNumberOfCalls;
+  @Value("${product-api.cache.shared.circuit-breaker.wait-duration-in-open-state}")
+  private long waitDurationInOpenState;
+  @Value("${product-api.cache.shared.circuit-breaker.max-wait-duration-in-open-state}")
+  private long maxWaitDurationInOpenState;
+  @Value("${product-api.cache.shared.circuit-breaker.permitted-calls-in-half-open-state}")
+  private int permittedCallsInHalfOpenState;
+  @Value("${product-api.cache.products.ttl}")
+  private long productsTtl;
+  @Value("${product-api.cache.similar-ids.ttl}")
+  private long similarIdsTtl;
+
+  @Bean
+  public CircuitBreaker sharedCacheCircuitBreaker() {
+    return CircuitBreaker.of("shared-cache", CircuitBreakerConfig.custom()
+        .failureRateThreshold(failureRateThreshold)
+        .slidingWindowSize(slidingWindowSize)
+        .minimumNumberOfCalls(minimumNumberOfCalls)
+        .waitIntervalFunctionInOpenState(IntervalFunction.ofExponentialBackoff(
+            Duration.ofMillis(waitDurationInOpenState), 2,
+            Duration.ofMillis(maxWaitDurationInOpenState)))
+        .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+        .build());
+  }
+
+  @Bean(destroyMethod = "close")
+  public RedisSharedCache redisSharedCache(CircuitBreaker sharedCacheCircuitBreaker) {
+    return new RedisSharedCache(new RedisSharedCacheConfig(host, port,
+        Duration.ofMillis(connectTimeout), Duration.ofMillis(readTimeout), username, password,
+        database, ssl), sharedCacheCircuitBreaker);
+  }
+
+  @Bean
+  public SharedCacheAdapter sharedCacheAdapter(
+      SimilarProductRestClientAdapter similarProductRestClientAdapter,
+      RedisSharedCache redisSharedCache, ExecutorService virtualThreadExecutor) {
+    return new SharedCacheAdapter(similarProductRestClientAdapter,
+        similarProductRestClientAdapter, redisSharedCache, virtualThreadExecutor,
+        new SharedCacheAdapterConfig(keyPrefix, Duration.ofMillis(productsTtl),
+            Duration.ofMillis(similarIdsTtl), maxPendingWrites));
+  }
+
+  @Bean
+  public MeterBinder sharedCacheMetrics(SharedCacheAdapter sharedCacheAdapter) {
+    return registry -> {
+      registerGets(registry, sharedCacheAdapter, PRODUCTS_CACHE, "hit",
+          SharedCacheAdapter::productHits);
+      registerGets(registry, sharedCacheAdapter, PRODUCTS_CACHE, "miss",
+          SharedCacheAdapter::productMisses);
+      registerGets(registry, sharedCacheAdapter, SIMILAR_IDS_CACHE, "hit",
+          SharedCacheAdapter::similarProductIdsHits);
+      registerGets(registry, sharedCacheAdapter, SIMILAR_IDS_CACHE, "miss",
+          SharedCacheAdapter::similarProductIdsMisses);
+      FunctionCounter.builder("cache.shared.errors", sharedCacheAdapter,
+              SharedCacheAdapter::errors)
+          .register(registry);
+      FunctionCounter.builder("cache.shared.writes", sharedCacheAdapter,
+              SharedCacheAdapter::writes)
+          .tag(RESULT_TAG, "written")
+          .register(registry);
+      FunctionCounter.builder("cache.shared.writes", sharedCacheAdapter,
+              SharedCacheAdapter::droppedWrites)
+          .tag(RESULT_TAG, "dropped")
+          .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder sharedCacheCircuitBreakerMetrics(CircuitBreaker sharedCacheCircuitBreaker) {
+    return TaggedCircuitBreakerMetrics.ofIterable(List.of(sharedCacheCircuitBreaker));
+  }
+
+  private static void registerGets(MeterRegistry registry,
+      SharedCacheAdapter sharedCacheAdapter, String cache, String result,
+      ToDoubleFunction<SharedCacheAdapter> count) {
+    FunctionCounter.builder("cache.gets", sharedCacheAdapter, count)
+        .tag(CACHE_TAG, cache)
+        .tag(RESULT_TAG, result)
+        .register(registry);
+  }
+}
@@ -0,0 +1,167 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link SharedCache} on Redis (or Valkey) through the Lettuce driver. Reads are a single
+ * {@code MGET} for all the keys, and writes are one {@code SET key value PX ttl} per entry, all
+ * sent before waiting for the replies. Every call shares one connection, opened on the first call
+ * and reconnected by the driver when it drops; while it is down, calls fail at once instead of
+ * queueing. Calls go through a circuit breaker, so once the server keeps failing they fail fast
+ * until the breaker lets a few calls through again.
+ */
+public class RedisSharedCache implements SharedCache, AutoCloseable {
+
+  private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8,
+      ByteArrayCodec.INSTANCE);
+
+  private final RedisSharedCacheConfig config;
+
+  private final CircuitBreaker circuitBreaker;
+
+  private final RedisClient client;
+
+  private volatile StatefulRedisConnection<String, byte[]> connection;
+
+  private volatile boolean closed;
+
+  public RedisSharedCache(RedisSharedCacheConfig config, CircuitBreaker circuitBreaker) {
+    this.config = config;
+    this.circuitBreaker = circuitBreaker;
+    this.client = RedisClient.create(config.redisUri());
+    this.client.setOptions(ClientOptions.builder()
+        .socketOptions(SocketOptions.builder().connectTimeout(config.connectTimeout()).build())
+        .timeoutOptions(TimeoutOptions.enabled(config.readTimeout()))
+        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+        .build());
+  }
+
+  @Override
+  public List<byte[]> getAll(List<String> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    var values = execute(connection -> connection.sync().mget(keys.toArray(String[]::new)));
+    var result = new ArrayList<byte[]>(values.size());
+    for (var value : values) {
+      result.add(value.hasValue() ? value.getValue() : null);
+    }
+    return result;
+  }
+
+  @Override
+  public void putAll(Map<String, byte[]> entries, Duration ttl) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    var ttlMillis = Math.max(1, ttl.toMillis());
+    execute(connection -> {
+      var commands = connection.async();
+      var replies = new ArrayList<RedisFuture<String>>(entries.size());
+      entries.forEach((key, value) -> replies.add(
+          commands.set(key, value, SetArgs.Builder.px(ttlMillis))));
+      if (!LettuceFutures.awaitAll(config.readTimeout(),
+          replies.toArray(RedisFuture<?>[]::new))) {
+        throw new SharedCacheException("Timed out writing to shared cache " + config.address());
+      }
+      return null;
+    });
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (connection != null) {
+      connection.close();
+    }
+    client.shutdown();
+  }
+
+  private <T> T execute(Function<StatefulRedisConnection<String, byte[]>, T> call) {
+    try {
+      return circuitBreaker.executeSupplier(() -> call.apply(connection()));
+    } catch (CallNotPermittedException e) {
+      throw new SharedCacheException("Shared cache " + config.address()
+          + " is failing, not calling it for now", e);
+    } catch (RedisException e) {
+      throw new SharedCacheException("Shared cache " + config.address() + " failed: "
+          + e.getMessage(), e);
+    }
+  }
+
+  private StatefulRedisConnection<String, byte[]> connection() {
+    var current = connection;
+    return current != null ? current : connect();
+  }
+
+  private synchronized StatefulRedisConnection<String, byte[]> connect() {
+    if (closed) {
+      throw new SharedCacheException("Shared cache client is closed");
+    }
+    if (connection == null) {
+      connection = client.connect(CODEC);
+    }
+    return connection;
+  }
+
+  /**
+   * Where and how to connect. {@code username} and {@code password} are sent with {@code AUTH}
+   * when a password is set, and {@code database} is selected when it is not 0. With {@code ssl},
+   * the server certificate is checked against the default trust store and the host name.
+   */
+  public record RedisSharedCacheConfig(String host, int port, Duration connectTimeout,
+                                       Duration readTimeout, String username, String password,
+                                       int database, boolean ssl) {
+
+    String address() {
+      return host + ":" + port;
+    }
+
+    RedisURI redisUri() {
+      var uri = RedisURI.builder()
+          .withHost(host)
+          .withPort(port)
+          .withTimeout(readTimeout)
+          .withDatabase(database)
+          .withSsl(ssl)
+          .withVerifyPeer(ssl);
+      if (hasText(password)) {
+        if (hasText(username)) {
+          uri.withAuthentication(username, password);
+        } else {
+          uri.withPassword(password.toCharArray());
+        }
+      }
+      return uri.build();
+    }
+
+    @Override
+    public String toString() {
+      return "RedisSharedCacheConfig[address=" + address() + ", username=" + username
+          + ", database=" + database + ", ssl=" + ssl + "]";
+    }
+
+    private static boolean hasText(String value) {
+      return value != null && !value.isBlank();
+    }
+  }
+}
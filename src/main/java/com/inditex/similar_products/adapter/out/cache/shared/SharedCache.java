@@ -0,0 +1,21 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Key-value store shared by every instance, used as the second cache tier behind the in-process
+ * caches. Both operations take a whole batch of keys so a fan-out costs one round trip, and both
+ * throw an unchecked exception when the store cannot be reached.
+ */
+public interface SharedCache {
+
+  /**
+   * Returns the value of every key, in the order of the keys, with {@code null} for keys that are
+   * not stored.
+   */
+  List<byte[]> getAll(List<String> keys);
+
+  void putAll(Map<String, byte[]> entries, Duration ttl);
+}
@@ -0,0 +1,83 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import com.inditex.similar_products.adapter.out.cache.codec.ProductBinaryCodec;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import lombok.NoArgsConstructor;
+
+/**
+ * Binary values stored in the shared cache: a format version byte followed by the
+ * {@link ProductBinaryCodec} layout, as in the cache snapshot file. Values written with another
+ * version, or that cannot be read, are rejected with an {@link IllegalArgumentException} and
+ * treated as misses.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class SharedCacheCodec {
+
+  static final byte VERSION = 1;
+
+  public static byte[] encodeProduct(Product product) {
+    return encode(out -> ProductBinaryCodec.writeProduct(out, product));
+  }
+
+  public static Product decodeProduct(byte[] value) {
+    return decode(value, ProductBinaryCodec::readProduct);
+  }
+
+  public static byte[] encodeProductIds(List<ProductId> productIds) {
+    return encode(out -> ProductBinaryCodec.writeProductIds(out, productIds));
+  }
+
+  public static List<ProductId> decodeProductIds(byte[] value) {
+    return decode(value, ProductBinaryCodec::readProductIds);
+  }
+
+  private static byte[] encode(Writer writer) {
+    var bytes = new ByteArrayOutputStream();
+    var out = new DataOutputStream(bytes);
+    try {
+      out.writeByte(VERSION);
+      writer.write(out);
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static <T> T decode(byte[] value, Reader<T> reader) {
+    var buffer = ByteBuffer.wrap(value);
+    try {
+      var version = buffer.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported shared cache value version " + version);
+      }
+      var result = reader.read(buffer);
+      if (buffer.hasRemaining()) {
+        throw new IllegalArgumentException("Unexpected trailing bytes in shared cache value");
+      }
+      return result;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated shared cache value", e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface Reader<T> {
+
+    T read(ByteBuffer buffer);
+  }
+}
@@ -0,0 +1,12 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+public class SharedCacheException extends RuntimeException {
+
+  public SharedCacheException(String message) {
+    super(message);
+  }
+
+  public SharedCacheException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,11 @@
+package com.inditex.similar_products.adapter.out.cache.snapshot;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import java.util.Map;
+
+public record ProductCacheSnapshot(Map<ProductId, Product> products,
+    Map<ProductId, List<ProductId>> similarProductIds) {
+
+}
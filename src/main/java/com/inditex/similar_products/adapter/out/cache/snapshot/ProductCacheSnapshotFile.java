@@ -0,0 +1,149 @@
+package com.inditex.similar_products.adapter.out.cache.snapshot;
+
+import com.inditex.similar_products.adapter.out.cache.codec.ProductBinaryCodec;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary snapshot of the product caches. The file is a fixed header (magic, format version,
+ * creation time, body length and CRC32 of the body) followed by the products and the similar
+ * ids, in the {@link ProductBinaryCodec} layout. Snapshots are written to a temporary file and
+ * atomically moved into place, and read through a read-only memory mapping; a file with an
+ * unknown version, a truncated body or a checksum mismatch is discarded.
+ */
+@Slf4j
+public class ProductCacheSnapshotFile {
+
+  static final int MAGIC = 0x53504353;
+
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 3;
+
+  private final Path path;
+
+  public ProductCacheSnapshotFile(Path path) {
+    this.path = path;
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public void write(ProductCacheSnapshot snapshot) throws IOException {
+    var body = encode(snapshot);
+    var crc = new CRC32();
+    crc.update(body);
+    var header = ByteBuffer.allocate(HEADER_SIZE)
+        .putInt(MAGIC)
+        .putInt(VERSION)
+        .putLong(System.currentTimeMillis())
+        .putLong(body.length)
+        .putLong(crc.getValue())
+        .flip();
+    var directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    try {
+      try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        var buffers = new ByteBuffer[]{header, ByteBuffer.wrap(body)};
+        while (buffers[1].hasRemaining()) {
+          channel.write(buffers);
+        }
+        channel.force(true);
+      }
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  public Optional<ProductCacheSnapshot> read() throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var size = channel.size();
+      if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+        log.warn("Discarding product cache snapshot {}: unexpected size {}", path, size);
+        return Optional.empty();
+      }
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt() != MAGIC) {
+        log.warn("Discarding product cache snapshot {}: not a snapshot file", path);
+        return Optional.empty();
+      }
+      var version = buffer.getInt();
+      if (version != VERSION) {
+        log.warn("Discarding product cache snapshot {}: unsupported version {}", path, version);
+        return Optional.empty();
+      }
+      buffer.getLong();
+      var bodyLength = buffer.getLong();
+      var checksum = buffer.getLong();
+      if (bodyLength != size - HEADER_SIZE) {
+        log.warn("Discarding product cache snapshot {}: incomplete body", path);
+        return Optional.empty();
+      }
+      var crc = new CRC32();
+      crc.update(buffer.slice());
+      if (crc.getValue() != checksum) {
+        log.warn("Discarding product cache snapshot {}: checksum mismatch", path);
+        return Optional.empty();
+      }
+      return Optional.of(decode(buffer));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      log.warn("Discarding product cache snapshot {}: malformed body", path);
+      return Optional.empty();
+    }
+  }
+
+  private static byte[] encode(ProductCacheSnapshot snapshot) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    var out = new DataOutputStream(bytes);
+    out.writeInt(snapshot.products().size());
+    for (var product : snapshot.products().values()) {
+      ProductBinaryCodec.writeProduct(out, product);
+    }
+    out.writeInt(snapshot.similarProductIds().size());
+    for (var entry : snapshot.similarProductIds().entrySet()) {
+      ProductBinaryCodec.writeProductId(out, entry.getKey());
+      ProductBinaryCodec.writeProductIds(out, entry.getValue());
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static ProductCacheSnapshot decode(ByteBuffer buffer) {
+    var productCount = buffer.getInt();
+    var products = new HashMap<ProductId, Product>(productCount);
+    for (int i = 0; i < productCount; i++) {
+      var product = ProductBinaryCodec.readProduct(buffer);
+      products.put(product.getId(), product);
+    }
+    var similarIdsCount = buffer.getInt();
+    var similarProductIds = new HashMap<ProductId, List<ProductId>>(similarIdsCount);
+    for (int i = 0; i < similarIdsCount; i++) {
+      similarProductIds.put(ProductBinaryCodec.readProductId(buffer),
+          ProductBinaryCodec.readProductIds(buffer));
+    }
+    return new ProductCacheSnapshot(products, similarProductIds);
+  }
+}
@@ -0,0 +1,45 @@
+package com.inditex.similar_products.adapter.out.cache.snapshot;
+
+import com.inditex.similar_products.adapter.out.cache.CachingProductsAdapter;
+import com.inditex.similar_products.adapter.out.cache.CachingSimilarProductIdsAdapter;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProductCacheSnapshotter {
+
+  private final ProductCacheSnapshotFile snapshotFile;
+
+  private final CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter;
+
+  private final CachingProductsAdapter cachingProductsAdapter;
+
+  public boolean restore() {
+    try {
+      var snapshot = snapshotFile.read();
+      if (snapshot.isEmpty()) {
+        return false;
+      }
+      cachingProductsAdapter.restore(snapshot.get().products());
+      cachingSimilarProductIdsAdapter.restore(snapshot.get().similarProductIds());
+      log.info("Restored {} products and {} similar ids from the cache snapshot {}",
+          snapshot.get().products().size(), snapshot.get().similarProductIds().size(),
+          snapshotFile.getPath());
+      return true;
+    } catch (IOException e) {
+      log.warn("Could not read the cache snapshot {}", snapshotFile.getPath(), e);
+      return false;
+    }
+  }
+
+  public void save() {
+    try {
+      snapshotFile.write(new ProductCacheSnapshot(cachingProductsAdapter.snapshot(),
+          cachingSimilarProductIdsAdapter.snapshot()));
+    } catch (IOException e) {
+      log.warn("Could not write the cache snapshot {}", snapshotFile.getPath(), e);
+    }
+  }
+}
@@ -1,27 +1,64 @@
 package com.inditex.similar_products.adapter.out.http.restclient;
 
 import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
-import com.inditex.similar_products.adapter.out.http.restclient.mapper.ProductRestClientDtoMapper;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.RequestHedger;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.SingleFlight;
+import com.inditex.similar_products.application.context.DeadlineContext;
 import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
 import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SimilarProductRestClientAdapter implements GetSimilarProductIdsPort,
     GetProductsByIdsPort {
 
   private final ProductRestClient productRestClient;
 
-  private final ExecutorService virtualThreadExecutor;
+  private final SingleFlight<ProductId, Product> productRequests;
+
+  private final RequestHedger productDetailsRequestHedger;
+
+  private final DistributionSummary fanOut;
+
+  public SimilarProductRestClientAdapter(ProductRestClient productRestClient,
+      ExecutorService virtualThreadExecutor) {
+    this(productRestClient, virtualThreadExecutor, RequestHedger.disabled(),
+        new SimpleMeterRegistry());
+  }
+
+  @Autowired
+  public SimilarProductRestClientAdapter(ProductRestClient productRestClient,
+      ExecutorService virtualThreadExecutor, RequestHedger productDetailsRequestHedger,
+      MeterRegistry meterRegistry) {
+    this.productRestClient = productRestClient;
+    this.productRequests = new SingleFlight<>(virtualThreadExecutor);
+    this.productDetailsRequestHedger = productDetailsRequestHedger;
+    this.fanOut = DistributionSummary.builder("product.api.fan.out")
+        .baseUnit("calls")
+        .register(meterRegistry);
+  }
 
   @Override
   public List<ProductId> getSimilarProductIds(ProductId productId) {
@@ -31,19 +68,91 @@ public class SimilarProductRestClientAdapter implements GetSimilarProductIdsPort
 
   @Override
   public List<Product> getProducts(List<ProductId> productIds) {
-    var futures = productIds.stream().map(
-        id -> CompletableFuture.supplyAsync(() -> getProductById(id.value()), virtualThreadExecutor)
-    ).toList();
+    var futures = fetchProducts(productIds);
     try {
       return futures.stream().map(CompletableFuture::join).toList();
     } catch (CompletionException e) {
       futures.forEach(f -> f.cancel(true));
+      if (e.getCause() instanceof TimeoutException) {
+        throw new DeadlineExceededException(
+            "Request deadline exceeded while retrieving products " + ids(productIds));
+      }
       throw new SimilarProductsRetrievalException(e.getCause().getMessage());
     }
   }
 
-  private Product getProductById(String id) {
-    var productDto = productRestClient.getProductById(id);
-    return ProductRestClientDtoMapper.toProduct(productDto);
+  @Override
+  public PartialProducts getAvailableProducts(List<ProductId> productIds) {
+    var products = new ArrayList<Product>(productIds.size());
+    var omittedProductIds = streamAvailableProducts(productIds, true, products::add);
+    return new PartialProducts(products, omittedProductIds);
+  }
+
+  @Override
+  public List<ProductId> streamAvailableProducts(List<ProductId> productIds, boolean ordered,
+      Consumer<Product> onProduct) {
+    var futures = fetchProducts(productIds);
+    var completed = new LinkedBlockingQueue<Integer>();
+    if (!ordered) {
+      for (int i = 0; i < futures.size(); i++) {
+        var index = i;
+        futures.get(i).whenComplete((product, e) -> completed.add(index));
+      }
+    }
+    var omittedProductIds = new ArrayList<ProductId>();
+    try {
+      for (int i = 0; i < productIds.size(); i++) {
+        var index = ordered ? i : completed.take();
+        Product product;
+        try {
+          product = futures.get(index).join();
+        } catch (CompletionException | CancellationException e) {
+          var cause = e.getCause() != null ? e.getCause() : e;
+          log.warn("Omitting product {} from the response: {}", productIds.get(index).value(),
+              cause instanceof TimeoutException ? "request deadline exceeded"
+                  : cause.getMessage());
+          futures.get(index).cancel(true);
+          omittedProductIds.add(productIds.get(index));
+          continue;
+        }
+        onProduct.accept(product);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(f -> f.cancel(true));
+      throw new SimilarProductsRetrievalException(
+          "Interrupted while retrieving products " + ids(productIds));
+    } catch (RuntimeException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw e;
+    }
+    return omittedProductIds;
+  }
+
+  /**
+   * Starts or joins one shared call per product. A shared call may serve callers with different
+   * deadlines, so it runs without any of them: each caller only waits until its own deadline, and
+   * the call is interrupted once every caller waiting for it has given up.
+   */
+  private List<CompletableFuture<Product>> fetchProducts(List<ProductId> productIds) {
+    DeadlineContext.checkNotExpired("retrieving products " + ids(productIds));
+    fanOut.record(productIds.size());
+    return productIds.stream().map(id -> withinDeadline(productRequests.execute(id,
+        () -> getProductById(id.value())))
+    ).toList();
+  }
+
+  private static <T> CompletableFuture<T> withinDeadline(CompletableFuture<T> future) {
+    return DeadlineContext.current()
+        .map(deadline -> future.orTimeout(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS))
+        .orElse(future);
+  }
+
+  private static String ids(List<ProductId> productIds) {
+    return productIds.stream().map(ProductId::value).collect(Collectors.joining(", "));
+  }
+
+  private Product getProductById(String id) throws Exception {
+    return productDetailsRequestHedger.execute(() -> productRestClient.getProductById(id));
   }
 }
@@ -0,0 +1,101 @@
+package com.inditex.similar_products.adapter.out.http.restclient.client;
+
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import java.io.IOException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Bounds every outbound call by the deadline of the current request. When the deadline is
+ * reached the calling thread is interrupted, which closes the socket it is blocked on and frees
+ * the connection instead of waiting for the read timeout.
+ */
+public class DeadlineClientHttpRequestInterceptor implements ClientHttpRequestInterceptor,
+    AutoCloseable {
+
+  private final ScheduledThreadPoolExecutor timer;
+
+  public DeadlineClientHttpRequestInterceptor() {
+    this.timer = new ScheduledThreadPoolExecutor(1,
+        Thread.ofPlatform().name("product-api-deadline").daemon().factory());
+    this.timer.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    var deadline = DeadlineContext.current().orElse(null);
+    if (deadline == null) {
+      return execution.execute(request, body);
+    }
+    DeadlineContext.checkNotExpired("calling " + request.getURI());
+    var interruption = new Interruption(Thread.currentThread());
+    var scheduled = timer.schedule(interruption::fire, deadline.remaining().toNanos(),
+        TimeUnit.NANOSECONDS);
+    try {
+      return execution.execute(request, body);
+    } catch (IOException e) {
+      if (interruption.disarm()) {
+        throw new DeadlineExceededException(
+            "Request deadline exceeded while calling " + request.getURI());
+      }
+      throw e;
+    } finally {
+      scheduled.cancel(false);
+      interruption.disarm();
+    }
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+  }
+
+  private static final class Interruption {
+
+    private final Thread thread;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private boolean armed = true;
+
+    private boolean fired;
+
+    private Interruption(Thread thread) {
+      this.thread = thread;
+    }
+
+    private void fire() {
+      lock.lock();
+      try {
+        if (armed) {
+          fired = true;
+          thread.interrupt();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean disarm() {
+      lock.lock();
+      try {
+        if (armed) {
+          armed = false;
+          if (fired) {
+            Thread.interrupted();
+          }
+        }
+        return fired;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.inditex.similar_products.adapter.out.http.restclient.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.domain.model.Product;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Validators ({@code ETag} and {@code Last-Modified}) of the product details last retrieved, kept
+ * with the details they describe. The validators are only offered while the product cache
+ * registered with {@link #useCachedProducts} still holds details equal to those. They are sent as
+ * {@code If-None-Match} and {@code If-Modified-Since} when the same product is requested again,
+ * and a 304 answer is served from the cached details without downloading or parsing the body.
+ */
+public class ProductDetailsValidatorCache {
+
+  private final Cache<String, ProductDetailsValidators> entries;
+
+  private volatile Function<String, Optional<Product>> cachedProducts = productId ->
+      Optional.empty();
+
+  private final AtomicLong notModified = new AtomicLong();
+
+  private final AtomicLong modified = new AtomicLong();
+
+  public ProductDetailsValidatorCache(Caffeine<Object, Object> cacheBuilder) {
+    this.entries = cacheBuilder == null ? null : cacheBuilder.build();
+  }
+
+  public static ProductDetailsValidatorCache disabled() {
+    return new ProductDetailsValidatorCache(null);
+  }
+
+  public void useCachedProducts(Function<String, Optional<Product>> cachedProducts) {
+    this.cachedProducts = cachedProducts;
+  }
+
+  public Optional<ValidatedProductDetails> get(String productId) {
+    var validators = entries == null ? null : entries.getIfPresent(productId);
+    if (validators == null) {
+      return Optional.empty();
+    }
+    return cachedProducts.apply(productId)
+        .filter(productDetails -> productDetails.equals(validators.productDetails()))
+        .map(productDetails -> new ValidatedProductDetails(productDetails, validators.eTag(),
+            validators.lastModified()));
+  }
+
+  public void put(String productId, Product productDetails, String eTag, String lastModified) {
+    if (entries == null) {
+      return;
+    }
+    if (eTag == null && lastModified == null) {
+      entries.invalidate(productId);
+      return;
+    }
+    entries.put(productId, new ProductDetailsValidators(eTag, lastModified, productDetails));
+  }
+
+  public void recordNotModified() {
+    notModified.incrementAndGet();
+  }
+
+  public void recordModified() {
+    modified.incrementAndGet();
+  }
+
+  public long notModified() {
+    return notModified.get();
+  }
+
+  public long modified() {
+    return modified.get();
+  }
+
+  public record ValidatedProductDetails(Product productDetails, String eTag, String lastModified) {
+
+  }
+
+  private record ProductDetailsValidators(String eTag, String lastModified,
+                                          Product productDetails) {
+
+  }
+}
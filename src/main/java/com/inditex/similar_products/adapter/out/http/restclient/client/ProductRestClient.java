@@ -1,26 +1,46 @@
 package com.inditex.similar_products.adapter.out.http.restclient.client;
 
-import com.inditex.similar_products.adapter.out.http.restclient.dto.ProductRestClientDto;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetryRegistry;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.ConcurrencyLimitExceededException;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.ConcurrencyLimiterRegistry;
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Product;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductRestClient {
 
+  public static final String SIMILAR_PRODUCT_IDS_ENDPOINT = "product-api-similar-ids";
+
+  public static final String PRODUCT_DETAILS_ENDPOINT = "product-api-product-details";
+
+  private static final Set<HttpStatus> RETRYABLE_CLIENT_ERRORS = Set.of(
+      HttpStatus.REQUEST_TIMEOUT, HttpStatus.TOO_MANY_REQUESTS);
+
+  private static final Set<HttpStatus> NON_RETRYABLE_SERVER_ERRORS = Set.of(
+      HttpStatus.NOT_IMPLEMENTED, HttpStatus.HTTP_VERSION_NOT_SUPPORTED);
+
   @Value("${product-api.similar-product-ids-url}")
   private String getSimilarProductIdsUrl;
 
@@ -29,74 +49,155 @@ public class ProductRestClient {
 
   private final RestClient productApiRestClient;
 
-  @Retryable(
-      retryFor = {RestClientException.class},
-      noRetryFor = {ProductNotFoundException.class},
-      maxAttemptsExpression = "${product-api.retry.max-attempts}",
-      backoff = @Backoff(
-          delayExpression = "${product-api.retry.delay}",
-          multiplierExpression = "${product-api.retry.multiplier}"
-      )
-  )
-  public List<String> getSimilarProductIds(String productId) {
-    var ids = productApiRestClient.get()
-        .uri(getSimilarProductIdsUrl, productId)
-        .retrieve()
-        .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
-            ((request, response) -> {
-              throw new ProductNotFoundException(
-                  "Product " + productId + " was not found");
-            }))
-        .body(new ParameterizedTypeReference<List<String>>() {
-        });
-    if (ids == null || ids.isEmpty()) {
-      return List.of();
+  private final CircuitBreakerRegistry productApiCircuitBreakerRegistry;
+
+  private final ConcurrencyLimiterRegistry productApiConcurrencyLimiterRegistry;
+
+  private final BudgetedRetryRegistry productApiRetryRegistry;
+
+  private final ProductDetailsValidatorCache productDetailsValidatorCache;
+
+  /**
+   * Both product API calls are idempotent GETs, so they are retried on connection failures,
+   * 5xx answers other than 501 and 505, 408, 429 and empty product bodies. The reactive engine
+   * classifies the failures of its web client the same way.
+   */
+  public static boolean isRetryable(Throwable e) {
+    if (e instanceof HttpStatusCodeException statusException) {
+      return isRetryable(statusException.getStatusCode());
     }
-    return ids;
+    if (e instanceof WebClientResponseException responseException) {
+      return isRetryable(responseException.getStatusCode());
+    }
+    return e instanceof ResourceAccessException
+        || e instanceof WebClientRequestException
+        || e instanceof SimilarProductsRetrievalException
+        && !(e instanceof DeadlineExceededException);
   }
 
-  @Recover
-  public List<String> recoverGetSimilarProductIds(ProductNotFoundException e, String productId) {
-    log.error("Product {} was not found", productId, e);
-    throw e;
+  private static boolean isRetryable(HttpStatusCode statusCode) {
+    var status = HttpStatus.resolve(statusCode.value());
+    return status != null && (RETRYABLE_CLIENT_ERRORS.contains(status)
+        || status.is5xxServerError() && !NON_RETRYABLE_SERVER_ERRORS.contains(status));
+  }
+
+  public List<String> getSimilarProductIds(String productId) {
+    try {
+      return productApiRetryRegistry.retry(SIMILAR_PRODUCT_IDS_ENDPOINT)
+          .executeSupplier(() -> fetchSimilarProductIds(productId));
+    } catch (ProductNotFoundException e) {
+      log.warn("Product {} was not found", productId);
+      throw e;
+    } catch (DeadlineExceededException e) {
+      log.warn("Deadline exceeded retrieving similar product ids for product {}", productId);
+      throw e;
+    } catch (CallNotPermittedException e) {
+      log.warn("Circuit breaker {} is open, similar product ids for product {} not retrieved",
+          SIMILAR_PRODUCT_IDS_ENDPOINT, productId);
+      throw new SimilarProductsRetrievalException(
+          "Product API unavailable retrieving similar product ids for product: " + productId);
+    } catch (ConcurrencyLimitExceededException e) {
+      log.warn("Concurrency limit reached, similar product ids for product {} not retrieved",
+          productId);
+      throw new SimilarProductsRetrievalException(
+          "Product API overloaded retrieving similar product ids for product: " + productId);
+    } catch (RuntimeException e) {
+      log.error("Something went wrong retrieving similar product ids for product {}", productId,
+          e);
+      throw new SimilarProductsRetrievalException(
+          "Something went wrong retrieving similar product ids for product: " + productId);
+    }
   }
 
-  @Recover
-  public List<String> recoverGetSimilarProductIds(Exception e, String productId) {
-    log.error("Something went wrong retrieving similar product ids for product {}", productId, e);
-    throw new SimilarProductsRetrievalException(
-        "Something went wrong retrieving similar product ids for product: " + productId);
+  public Product getProductById(String productId) {
+    try {
+      return productApiRetryRegistry.retry(PRODUCT_DETAILS_ENDPOINT)
+          .executeSupplier(() -> fetchProductById(productId));
+    } catch (DeadlineExceededException e) {
+      log.warn("Deadline exceeded retrieving product with id: {}", productId);
+      throw e;
+    } catch (CallNotPermittedException e) {
+      log.warn("Circuit breaker {} is open, product with id {} not retrieved",
+          PRODUCT_DETAILS_ENDPOINT, productId);
+      throw new SimilarProductsRetrievalException(
+          "Product API unavailable retrieving product with id: " + productId);
+    } catch (ConcurrencyLimitExceededException e) {
+      log.warn("Concurrency limit reached, product with id {} not retrieved", productId);
+      throw new SimilarProductsRetrievalException(
+          "Product API overloaded retrieving product with id: " + productId);
+    } catch (RuntimeException e) {
+      log.error("Something went wrong retrieving product with id: {}", productId, e);
+      throw new SimilarProductsRetrievalException(
+          "Something went wrong retrieving product with id: " + productId);
+    }
   }
 
-  @Retryable(
-      retryFor = {RestClientException.class, SimilarProductsRetrievalException.class},
-      noRetryFor = {ProductNotFoundException.class},
-      maxAttemptsExpression = "${product-api.retry.max-attempts}",
-      backoff = @Backoff(
-          delayExpression = "${product-api.retry.delay}",
-          multiplierExpression = "${product-api.retry.multiplier}"
-      )
-  )
-  public ProductRestClientDto getProductById(String productId) {
-    var productDto = productApiRestClient.get()
-        .uri(getProductDetailsUrl, productId)
-        .retrieve()
-        .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
-            ((request, response) -> {
-              throw new ProductNotFoundException(
-                  "Product " + productId + " was not found");
-            }))
-        .body(ProductRestClientDto.class);
-    if (productDto == null) {
-      throw new SimilarProductsRetrievalException("Empty product retrieved for id " + productId);
+  private List<String> fetchSimilarProductIds(String productId) {
+    DeadlineContext.checkNotExpired("retrieving similar product ids for product " + productId);
+    var ids = productApiCircuitBreakerRegistry.circuitBreaker(SIMILAR_PRODUCT_IDS_ENDPOINT)
+        .executeSupplier(() -> productApiConcurrencyLimiterRegistry
+            .limiter(SIMILAR_PRODUCT_IDS_ENDPOINT)
+            .executeSupplier(() -> productApiRestClient.get()
+                .uri(getSimilarProductIdsUrl, productId)
+                .retrieve()
+                .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+                    ((request, response) -> {
+                      throw new ProductNotFoundException(
+                          "Product " + productId + " was not found");
+                    }))
+                .body(new ParameterizedTypeReference<List<String>>() {
+                })));
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
     }
-    return productDto;
+    return ids;
   }
 
-  @Recover
-  public ProductRestClientDto recoverGetProductById(Exception e, String productId) {
-    log.error("Something went wrong retrieving product with id: {}", productId, e);
-    throw new SimilarProductsRetrievalException(
-        "Something went wrong retrieving product with id: " + productId);
+  private Product fetchProductById(String productId) {
+    DeadlineContext.checkNotExpired("retrieving product with id " + productId);
+    var cached = productDetailsValidatorCache.get(productId);
+    return productApiCircuitBreakerRegistry.circuitBreaker(PRODUCT_DETAILS_ENDPOINT)
+        .executeSupplier(() -> productApiConcurrencyLimiterRegistry
+            .limiter(PRODUCT_DETAILS_ENDPOINT)
+            .executeSupplier(() -> {
+              var productResponse = productApiRestClient.get()
+                  .uri(getProductDetailsUrl, productId)
+                  .headers(headers -> cached.ifPresent(details -> {
+                    if (details.eTag() != null) {
+                      headers.setIfNoneMatch(details.eTag());
+                    }
+                    if (details.lastModified() != null) {
+                      headers.set(HttpHeaders.IF_MODIFIED_SINCE, details.lastModified());
+                    }
+                  }))
+                  .retrieve()
+                  .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+                      ((request, response) -> {
+                        throw new ProductNotFoundException(
+                            "Product " + productId + " was not found");
+                      }))
+                  .toEntity(Product.class);
+              var eTag = productResponse.getHeaders().getETag();
+              var lastModified = productResponse.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+              if (productResponse.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                  && cached.isPresent()) {
+                var details = cached.get();
+                productDetailsValidatorCache.recordNotModified();
+                productDetailsValidatorCache.put(productId, details.productDetails(),
+                    eTag != null ? eTag : details.eTag(),
+                    lastModified != null ? lastModified : details.lastModified());
+                return details.productDetails();
+              }
+              var product = productResponse.getBody();
+              if (product == null) {
+                throw new SimilarProductsRetrievalException(
+                    "Empty product retrieved for id " + productId);
+              }
+              if (cached.isPresent()) {
+                productDetailsValidatorCache.recordModified();
+              }
+              productDetailsValidatorCache.put(productId, product, eTag, lastModified);
+              return product;
+            }));
   }
 }
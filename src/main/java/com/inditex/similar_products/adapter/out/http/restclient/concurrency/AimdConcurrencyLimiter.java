@@ -0,0 +1,140 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls with an additive-increase/multiplicative-decrease
+ * policy: the limit grows by one after a fast successful call made while the limit was being
+ * used, and shrinks by the backoff ratio after a slow call or an overload error. Calls beyond
+ * the limit wait up to the maximum wait for a free slot and are then rejected.
+ */
+public class AimdConcurrencyLimiter {
+
+  private final String name;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double backoffRatio;
+
+  private final long rttThresholdNanos;
+
+  private final long maxWaitNanos;
+
+  private final Predicate<Throwable> isOverload;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition slotReleased = lock.newCondition();
+
+  private final AtomicLong rejectedCalls = new AtomicLong();
+
+  private final AtomicLong limitDecreases = new AtomicLong();
+
+  private volatile int limit;
+
+  private volatile int inFlight;
+
+  public AimdConcurrencyLimiter(String name, AimdConcurrencyLimiterConfig config) {
+    this.name = name;
+    this.minLimit = config.minLimit();
+    this.maxLimit = config.maxLimit();
+    this.backoffRatio = config.backoffRatio();
+    this.rttThresholdNanos = config.rttThreshold().toNanos();
+    this.maxWaitNanos = config.maxWait().toNanos();
+    this.isOverload = config.isOverload();
+    this.limit = Math.max(minLimit, Math.min(maxLimit, config.initialLimit()));
+  }
+
+  public <T> T executeSupplier(Supplier<T> call) {
+    acquire();
+    var start = System.nanoTime();
+    try {
+      var result = call.get();
+      release(System.nanoTime() - start <= rttThresholdNanos);
+      return result;
+    } catch (RuntimeException | Error e) {
+      if (isOverload.test(e)) {
+        release(false);
+      } else {
+        release(System.nanoTime() - start <= rttThresholdNanos);
+      }
+      throw e;
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  public int inFlight() {
+    return inFlight;
+  }
+
+  public long rejectedCalls() {
+    return rejectedCalls.get();
+  }
+
+  public long limitDecreases() {
+    return limitDecreases.get();
+  }
+
+  private void acquire() {
+    lock.lock();
+    try {
+      var remainingNanos = maxWaitNanos;
+      while (inFlight >= limit) {
+        if (remainingNanos <= 0) {
+          rejectedCalls.incrementAndGet();
+          throw new ConcurrencyLimitExceededException(
+              "Concurrency limit " + limit + " reached for " + name);
+        }
+        remainingNanos = slotReleased.awaitNanos(remainingNanos);
+      }
+      inFlight++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConcurrencyLimitExceededException(
+          "Interrupted while waiting for a concurrency slot for " + name);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(boolean fast) {
+    lock.lock();
+    try {
+      if (fast) {
+        if (inFlight * 2 >= limit && limit < maxLimit) {
+          limit++;
+        }
+      } else {
+        var decreased = Math.max(minLimit, (int) (limit * backoffRatio));
+        if (decreased < limit) {
+          limitDecreases.incrementAndGet();
+        }
+        limit = decreased;
+      }
+      inFlight--;
+      slotReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public record AimdConcurrencyLimiterConfig(int initialLimit, int minLimit, int maxLimit,
+                                             double backoffRatio, Duration rttThreshold,
+                                             Duration maxWait, Predicate<Throwable> isOverload) {
+
+  }
+}
@@ -0,0 +1,132 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import com.inditex.similar_products.application.context.DeadlineContext;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retries a call on retryable failures with capped exponential backoff and full jitter (a random
+ * wait between zero and the backoff), so retries from many callers do not arrive in waves. Every
+ * call refills a token bucket by the budget ratio and every retry takes a whole token, so retries
+ * stay below that fraction of the calls while the upstream is failing. A retry whose wait would
+ * outlive the current request deadline is not attempted. Non-blocking callers count each call
+ * with {@link #recordCall()} and ask {@link #nextRetryDelay} after every failed attempt.
+ */
+public class BudgetedRetry {
+
+  private final String name;
+
+  private final int maxAttempts;
+
+  private final long initialDelayNanos;
+
+  private final double multiplier;
+
+  private final long maxDelayNanos;
+
+  private final TokenBucketBudget budget;
+
+  private final Predicate<Throwable> isRetryable;
+
+  private final AtomicLong retries = new AtomicLong();
+
+  private final AtomicLong budgetRejections = new AtomicLong();
+
+  public BudgetedRetry(String name, BudgetedRetryConfig config) {
+    this.name = name;
+    this.maxAttempts = config.maxAttempts();
+    this.initialDelayNanos = config.initialDelay().toNanos();
+    this.multiplier = config.multiplier();
+    this.maxDelayNanos = config.maxDelay().toNanos();
+    this.budget = new TokenBucketBudget(config.budgetRatio(), config.budgetMaxTokens());
+    this.isRetryable = config.isRetryable();
+  }
+
+  public <T> T executeSupplier(Supplier<T> call) {
+    recordCall();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        var backoffNanos = retryBackoffNanos(attempt, e);
+        if (backoffNanos < 0) {
+          throw e;
+        }
+        sleep(backoffNanos, e);
+      }
+    }
+  }
+
+  public void recordCall() {
+    budget.deposit();
+  }
+
+  /**
+   * Returns the wait before retrying the given failed attempt, taking a budget token, or empty
+   * when the failure must be propagated.
+   */
+  public Optional<Duration> nextRetryDelay(int attempt, Throwable failure) {
+    var backoffNanos = retryBackoffNanos(attempt, failure);
+    return backoffNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(backoffNanos));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long retries() {
+    return retries.get();
+  }
+
+  public long budgetRejections() {
+    return budgetRejections.get();
+  }
+
+  public double availableBudget() {
+    return budget.available();
+  }
+
+  private long retryBackoffNanos(int attempt, Throwable failure) {
+    var backoffNanos = backoffNanos(attempt);
+    if (attempt >= maxAttempts || !isRetryable.test(failure) || !withinDeadline(backoffNanos)) {
+      return -1;
+    }
+    if (!budget.tryAcquire()) {
+      budgetRejections.incrementAndGet();
+      return -1;
+    }
+    retries.incrementAndGet();
+    return backoffNanos;
+  }
+
+  private long backoffNanos(int attempt) {
+    var backoff = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, attempt - 1));
+    return (long) (ThreadLocalRandom.current().nextDouble() * backoff);
+  }
+
+  private static boolean withinDeadline(long backoffNanos) {
+    return DeadlineContext.current()
+        .map(deadline -> deadline.remaining().toNanos() > backoffNanos)
+        .orElse(true);
+  }
+
+  private static void sleep(long nanos, RuntimeException failure) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failure;
+    }
+  }
+
+  public record BudgetedRetryConfig(int maxAttempts, Duration initialDelay, double multiplier,
+                                    Duration maxDelay, double budgetRatio, double budgetMaxTokens,
+                                    Predicate<Throwable> isRetryable) {
+
+  }
+}
@@ -0,0 +1,25 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry.BudgetedRetryConfig;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class BudgetedRetryRegistry {
+
+  private final BudgetedRetryConfig config;
+
+  private final ConcurrentMap<String, BudgetedRetry> retries = new ConcurrentHashMap<>();
+
+  public BudgetedRetryRegistry(BudgetedRetryConfig config) {
+    this.config = config;
+  }
+
+  public BudgetedRetry retry(String name) {
+    return retries.computeIfAbsent(name, key -> new BudgetedRetry(key, config));
+  }
+
+  public Collection<BudgetedRetry> getAllRetries() {
+    return retries.values();
+  }
+}
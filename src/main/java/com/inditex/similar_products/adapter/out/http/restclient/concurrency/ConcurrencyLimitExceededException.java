@@ -0,0 +1,8 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  public ConcurrencyLimitExceededException(String message) {
+    super(message);
+  }
+}
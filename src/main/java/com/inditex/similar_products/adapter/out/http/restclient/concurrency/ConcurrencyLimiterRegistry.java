@@ -0,0 +1,26 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.AimdConcurrencyLimiter.AimdConcurrencyLimiterConfig;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ConcurrencyLimiterRegistry {
+
+  private final AimdConcurrencyLimiterConfig config;
+
+  private final ConcurrentMap<String, AimdConcurrencyLimiter> limiters =
+      new ConcurrentHashMap<>();
+
+  public ConcurrencyLimiterRegistry(AimdConcurrencyLimiterConfig config) {
+    this.config = config;
+  }
+
+  public AimdConcurrencyLimiter limiter(String name) {
+    return limiters.computeIfAbsent(name, key -> new AimdConcurrencyLimiter(key, config));
+  }
+
+  public Collection<AimdConcurrencyLimiter> getAllLimiters() {
+    return limiters.values();
+  }
+}
@@ -0,0 +1,60 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the latest latency samples of an endpoint and periodically recomputes the configured
+ * percentile over them. Until enough samples are recorded the initial value is returned.
+ */
+public class LatencyPercentileTracker {
+
+  private static final int RECOMPUTE_INTERVAL = 100;
+
+  private final long[] samples;
+
+  private final double percentile;
+
+  private final long minValueNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private int count;
+
+  private int next;
+
+  private int sinceRecompute;
+
+  private volatile long valueNanos;
+
+  public LatencyPercentileTracker(int windowSize, double percentile, Duration initialValue,
+      Duration minValue) {
+    this.samples = new long[windowSize];
+    this.percentile = percentile;
+    this.minValueNanos = minValue.toNanos();
+    this.valueNanos = Math.max(minValueNanos, initialValue.toNanos());
+  }
+
+  public void record(long latencyNanos) {
+    lock.lock();
+    try {
+      samples[next] = latencyNanos;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+      if (++sinceRecompute >= Math.min(RECOMPUTE_INTERVAL, samples.length)) {
+        sinceRecompute = 0;
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        var index = Math.max(0, (int) Math.ceil(percentile * count) - 1);
+        valueNanos = Math.max(minValueNanos, sorted[index]);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Duration value() {
+    return Duration.ofNanos(valueNanos);
+  }
+}
@@ -0,0 +1,131 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import com.inditex.similar_products.application.context.DeadlineContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends a second identical call when the first one has not answered after the tracked latency
+ * percentile, returns the first successful answer and cancels the other call. Hedges are paid
+ * from a {@link TokenBucketBudget} so they cannot multiply the load during an outage. Both calls
+ * run within the caller's request deadline.
+ */
+public class RequestHedger {
+
+  private final boolean enabled;
+
+  private final Executor executor;
+
+  private final LatencyPercentileTracker latencyTracker;
+
+  private final TokenBucketBudget hedgeBudget;
+
+  private final AtomicLong hedgedCalls = new AtomicLong();
+
+  private final AtomicLong callsWonByHedge = new AtomicLong();
+
+  private final AtomicLong hedgesRejectedByBudget = new AtomicLong();
+
+  public RequestHedger(boolean enabled, Executor executor,
+      LatencyPercentileTracker latencyTracker, TokenBucketBudget hedgeBudget) {
+    this.enabled = enabled;
+    this.executor = executor;
+    this.latencyTracker = latencyTracker;
+    this.hedgeBudget = hedgeBudget;
+  }
+
+  public static RequestHedger disabled() {
+    return new RequestHedger(false, null, null, null);
+  }
+
+  public <T> T execute(Callable<T> call) throws Exception {
+    if (!enabled) {
+      return call.call();
+    }
+    hedgeBudget.deposit();
+    var completionService = new ExecutorCompletionService<T>(executor);
+    var attempts = new ArrayList<Future<T>>(2);
+    attempts.add(completionService.submit(timed(call)));
+    try {
+      var completed = completionService.poll(latencyTracker.value().toNanos(),
+          TimeUnit.NANOSECONDS);
+      if (completed == null) {
+        if (hedgeBudget.tryAcquire()) {
+          hedgedCalls.incrementAndGet();
+          attempts.add(completionService.submit(timed(call)));
+        } else {
+          hedgesRejectedByBudget.incrementAndGet();
+        }
+        completed = completionService.take();
+      }
+      return firstSuccessful(completionService, completed, attempts);
+    } finally {
+      attempts.forEach(attempt -> attempt.cancel(true));
+    }
+  }
+
+  public Duration threshold() {
+    return enabled ? latencyTracker.value() : Duration.ZERO;
+  }
+
+  public double availableBudget() {
+    return enabled ? hedgeBudget.available() : 0;
+  }
+
+  public long hedgedCalls() {
+    return hedgedCalls.get();
+  }
+
+  public long callsWonByHedge() {
+    return callsWonByHedge.get();
+  }
+
+  public long hedgesRejectedByBudget() {
+    return hedgesRejectedByBudget.get();
+  }
+
+  private <T> T firstSuccessful(CompletionService<T> completionService, Future<T> completed,
+      List<Future<T>> attempts) throws Exception {
+    var pending = attempts.size();
+    while (true) {
+      pending--;
+      try {
+        var result = completed.get();
+        if (attempts.size() > 1 && completed == attempts.get(1)) {
+          callsWonByHedge.incrementAndGet();
+        }
+        return result;
+      } catch (ExecutionException e) {
+        if (pending == 0) {
+          throw unwrap(e);
+        }
+      }
+      completed = completionService.take();
+    }
+  }
+
+  private <T> Callable<T> timed(Callable<T> call) {
+    return DeadlineContext.propagatingCall(() -> {
+      var start = System.nanoTime();
+      var result = call.call();
+      latencyTracker.record(System.nanoTime() - start);
+      return result;
+    });
+  }
+
+  private static Exception unwrap(ExecutionException e) {
+    if (e.getCause() instanceof Error error) {
+      throw error;
+    }
+    return e.getCause() instanceof Exception cause ? cause : e;
+  }
+}
@@ -0,0 +1,108 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deduplicates concurrent calls by key: callers asking for a key that is already in flight share
+ * its result instead of starting a new call. Every caller gets its own future, so cancelling it
+ * (or timing it out) only detaches that caller; the underlying call is interrupted once all of
+ * them have given up.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, Call> calls = new ConcurrentHashMap<>();
+
+  private final Executor executor;
+
+  public SingleFlight(Executor executor) {
+    this.executor = executor;
+  }
+
+  public CompletableFuture<V> execute(K key, Callable<V> task) {
+    while (true) {
+      var newCall = new Call(key, task);
+      var call = calls.putIfAbsent(key, newCall);
+      if (call == null) {
+        call = newCall;
+        executor.execute(newCall);
+      }
+      var waiter = call.newWaiter();
+      if (waiter != null) {
+        return waiter;
+      }
+      calls.remove(key, call);
+    }
+  }
+
+  public int inFlight() {
+    return calls.size();
+  }
+
+  private final class Call extends FutureTask<V> {
+
+    private final K key;
+
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    private Call(K key, Callable<V> task) {
+      super(task);
+      this.key = key;
+    }
+
+    private CompletableFuture<V> newWaiter() {
+      int count;
+      do {
+        count = waiters.get();
+        if (count < 0) {
+          return null;
+        }
+      } while (!waiters.compareAndSet(count, count + 1));
+      var waiter = new CompletableFuture<V>();
+      result.whenComplete((value, error) -> {
+        if (error == null) {
+          waiter.complete(value);
+        } else {
+          waiter.completeExceptionally(error);
+        }
+      });
+      waiter.whenComplete((value, error) -> {
+        if (error != null && !result.isDone()) {
+          leave();
+        }
+      });
+      return waiter;
+    }
+
+    private void leave() {
+      if (waiters.decrementAndGet() == 0 && !isDone() && waiters.compareAndSet(0, -1)) {
+        cancel(true);
+      }
+    }
+
+    @Override
+    protected void done() {
+      calls.remove(key, this);
+      if (isCancelled()) {
+        result.cancel(false);
+        return;
+      }
+      try {
+        result.complete(get());
+      } catch (ExecutionException e) {
+        result.completeExceptionally(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        result.completeExceptionally(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that every request refills by a fraction of a token and every extra call (a hedge
+ * or a retry) drains by a whole one, so extra calls stay below that fraction of the traffic.
+ */
+public class TokenBucketBudget {
+
+  private static final long SCALE = 1000;
+
+  private final long depositPerRequest;
+
+  private final long maxTokens;
+
+  private final AtomicLong tokens;
+
+  public TokenBucketBudget(double ratio, double maxTokens) {
+    this.depositPerRequest = Math.round(ratio * SCALE);
+    this.maxTokens = Math.round(maxTokens * SCALE);
+    this.tokens = new AtomicLong(this.maxTokens);
+  }
+
+  public void deposit() {
+    tokens.accumulateAndGet(depositPerRequest, (current, deposit) ->
+        Math.min(maxTokens, current + deposit));
+  }
+
+  public boolean tryAcquire() {
+    long current;
+    do {
+      current = tokens.get();
+      if (current < SCALE) {
+        return false;
+      }
+    } while (!tokens.compareAndSet(current, current - SCALE));
+    return true;
+  }
+
+  public double available() {
+    return (double) tokens.get() / SCALE;
+  }
+}
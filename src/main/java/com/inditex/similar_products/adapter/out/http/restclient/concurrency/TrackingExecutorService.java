@@ -0,0 +1,86 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the tasks of an executor that are queued (submitted but not started yet), running and
+ * completed. A thread-per-task executor has no queue of its own, so queued tasks are those
+ * waiting for their thread to be scheduled on a carrier.
+ */
+public class TrackingExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+
+  private final AtomicInteger queued = new AtomicInteger();
+
+  private final AtomicInteger running = new AtomicInteger();
+
+  private final LongAdder completed = new LongAdder();
+
+  public TrackingExecutorService(ExecutorService delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    queued.incrementAndGet();
+    try {
+      delegate.execute(() -> {
+        queued.decrementAndGet();
+        running.incrementAndGet();
+        try {
+          command.run();
+        } finally {
+          running.decrementAndGet();
+          completed.increment();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      queued.decrementAndGet();
+      throw e;
+    }
+  }
+
+  public int queued() {
+    return queued.get();
+  }
+
+  public int running() {
+    return running.get();
+  }
+
+  public long completed() {
+    return completed.sum();
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+}
@@ -0,0 +1,80 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.ConcurrencyLimitExceededException;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ProductApiCircuitBreakerConfig {
+
+  @Value("${product-api.circuit-breaker.failure-rate-threshold}")
+  private float failureRateThreshold;
+  @Value("${product-api.circuit-breaker.slow-call-rate-threshold}")
+  private float slowCallRateThreshold;
+  @Value("${product-api.circuit-breaker.slow-call-duration-threshold}")
+  private long slowCallDurationThreshold;
+  @Value("${product-api.circuit-breaker.sliding-window-size}")
+  private int slidingWindowSize;
+  @Value("${product-api.circuit-breaker.minimum-number-of-calls}")
+  private int minimumNumberOfCalls;
+  @Value("${product-api.circuit-breaker.wait-duration-in-open-state}")
+  private long waitDurationInOpenState;
+  @Value("${product-api.circuit-breaker.permitted-calls-in-half-open-state}")
+  private int permittedCallsInHalfOpenState;
+
+  @Bean
+  public CircuitBreakerRegistry productApiCircuitBreakerRegistry() {
+    var config = CircuitBreakerConfig.custom()
+        .failureRateThreshold(failureRateThreshold)
+        .slowCallRateThreshold(slowCallRateThreshold)
+        .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationThreshold))
+        .slidingWindowSize(slidingWindowSize)
+        .minimumNumberOfCalls(minimumNumberOfCalls)
+        .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenState))
+        .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+        .ignoreExceptions(ProductNotFoundException.class, DeadlineExceededException.class,
+            ConcurrencyLimitExceededException.class)
+        .build();
+    var registry = CircuitBreakerRegistry.of(config);
+    registry.circuitBreaker(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT);
+    registry.circuitBreaker(ProductRestClient.PRODUCT_DETAILS_ENDPOINT);
+    return registry;
+  }
+
+  @Bean
+  public MeterBinder productApiCircuitBreakerMetrics(
+      CircuitBreakerRegistry productApiCircuitBreakerRegistry) {
+    return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(productApiCircuitBreakerRegistry);
+  }
+
+  @Bean
+  public MeterBinder productApiCircuitBreakerTransitionMetrics(
+      CircuitBreakerRegistry productApiCircuitBreakerRegistry) {
+    return meterRegistry -> productApiCircuitBreakerRegistry.getAllCircuitBreakers()
+        .forEach(circuitBreaker -> circuitBreaker.getEventPublisher()
+            .onStateTransition(event -> {
+              var transition = event.getStateTransition();
+              log.warn("Circuit breaker {} transitioned from {} to {}",
+                  event.getCircuitBreakerName(), transition.getFromState(),
+                  transition.getToState());
+              Counter.builder("product.api.circuit.breaker.transitions")
+                  .tag("name", event.getCircuitBreakerName())
+                  .tag("from", transition.getFromState().name())
+                  .tag("to", transition.getToState().name())
+                  .register(meterRegistry)
+                  .increment();
+            }));
+  }
+}
@@ -0,0 +1,67 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.AimdConcurrencyLimiter;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.AimdConcurrencyLimiter.AimdConcurrencyLimiterConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.ConcurrencyLimiterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@Configuration
+public class ProductApiConcurrencyLimitConfig {
+
+  private static final String NAME_TAG = "name";
+
+  @Value("${product-api.concurrency-limit.initial-limit}")
+  private int initialLimit;
+  @Value("${product-api.concurrency-limit.min-limit}")
+  private int minLimit;
+  @Value("${product-api.concurrency-limit.max-limit}")
+  private int maxLimit;
+  @Value("${product-api.concurrency-limit.backoff-ratio}")
+  private double backoffRatio;
+  @Value("${product-api.concurrency-limit.rtt-threshold}")
+  private long rttThreshold;
+  @Value("${product-api.concurrency-limit.max-wait}")
+  private long maxWait;
+
+  @Bean
+  public ConcurrencyLimiterRegistry productApiConcurrencyLimiterRegistry() {
+    var config = new AimdConcurrencyLimiterConfig(initialLimit, minLimit, maxLimit, backoffRatio,
+        Duration.ofMillis(rttThreshold), Duration.ofMillis(maxWait),
+        e -> e instanceof ResourceAccessException || e instanceof HttpServerErrorException);
+    var registry = new ConcurrencyLimiterRegistry(config);
+    registry.limiter(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT);
+    registry.limiter(ProductRestClient.PRODUCT_DETAILS_ENDPOINT);
+    return registry;
+  }
+
+  @Bean
+  public MeterBinder productApiConcurrencyLimitMetrics(
+      ConcurrencyLimiterRegistry productApiConcurrencyLimiterRegistry) {
+    return registry -> productApiConcurrencyLimiterRegistry.getAllLimiters().forEach(limiter -> {
+      Gauge.builder("product.api.concurrency.limit", limiter, AimdConcurrencyLimiter::limit)
+          .tag(NAME_TAG, limiter.getName())
+          .register(registry);
+      Gauge.builder("product.api.concurrency.in.flight", limiter,
+              AimdConcurrencyLimiter::inFlight)
+          .tag(NAME_TAG, limiter.getName())
+          .register(registry);
+      FunctionCounter.builder("product.api.concurrency.rejected", limiter,
+              AimdConcurrencyLimiter::rejectedCalls)
+          .tag(NAME_TAG, limiter.getName())
+          .register(registry);
+      FunctionCounter.builder("product.api.concurrency.limit.decreases", limiter,
+              AimdConcurrencyLimiter::limitDecreases)
+          .tag(NAME_TAG, limiter.getName())
+          .register(registry);
+    });
+  }
+}
@@ -0,0 +1,70 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.LatencyPercentileTracker;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.RequestHedger;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.TokenBucketBudget;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductApiHedgingConfig {
+
+  private static final String ENDPOINT_TAG = "endpoint";
+  private static final String PRODUCT_DETAILS_ENDPOINT = "product-details";
+
+  @Value("${product-api.hedging.enabled}")
+  private boolean enabled;
+  @Value("${product-api.hedging.percentile}")
+  private double percentile;
+  @Value("${product-api.hedging.window-size}")
+  private int windowSize;
+  @Value("${product-api.hedging.initial-delay}")
+  private long initialDelay;
+  @Value("${product-api.hedging.min-delay}")
+  private long minDelay;
+  @Value("${product-api.hedging.budget.ratio}")
+  private double budgetRatio;
+  @Value("${product-api.hedging.budget.max-tokens}")
+  private double budgetMaxTokens;
+
+  @Bean
+  public RequestHedger productDetailsRequestHedger(ExecutorService virtualThreadExecutor) {
+    var latencyTracker = new LatencyPercentileTracker(windowSize, percentile,
+        Duration.ofMillis(initialDelay), Duration.ofMillis(minDelay));
+    return new RequestHedger(enabled, virtualThreadExecutor, latencyTracker,
+        new TokenBucketBudget(budgetRatio, budgetMaxTokens));
+  }
+
+  @Bean
+  public MeterBinder productDetailsHedgingMetrics(RequestHedger productDetailsRequestHedger) {
+    return registry -> {
+      FunctionCounter.builder("product.api.hedging.calls", productDetailsRequestHedger,
+              RequestHedger::hedgedCalls)
+          .tag(ENDPOINT_TAG, PRODUCT_DETAILS_ENDPOINT)
+          .register(registry);
+      FunctionCounter.builder("product.api.hedging.wins", productDetailsRequestHedger,
+              RequestHedger::callsWonByHedge)
+          .tag(ENDPOINT_TAG, PRODUCT_DETAILS_ENDPOINT)
+          .register(registry);
+      FunctionCounter.builder("product.api.hedging.budget.rejections",
+              productDetailsRequestHedger, RequestHedger::hedgesRejectedByBudget)
+          .tag(ENDPOINT_TAG, PRODUCT_DETAILS_ENDPOINT)
+          .register(registry);
+      Gauge.builder("product.api.hedging.budget.available", productDetailsRequestHedger,
+              RequestHedger::availableBudget)
+          .tag(ENDPOINT_TAG, PRODUCT_DETAILS_ENDPOINT)
+          .register(registry);
+      Gauge.builder("product.api.hedging.threshold", productDetailsRequestHedger,
+              hedger -> hedger.threshold().toMillis())
+          .tag(ENDPOINT_TAG, PRODUCT_DETAILS_ENDPOINT)
+          .baseUnit("milliseconds")
+          .register(registry);
+    };
+  }
+}
@@ -0,0 +1,117 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PostConstruct;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+@Configuration
+public class ProductApiHttpClientConfig {
+
+  private static final String CLIENT_PROPERTY = "product-api.http.client";
+
+  private static final List<String> SUPPORTED_CLIENTS = List.of("pooled", "jdk", "simple");
+
+  @Value("${" + CLIENT_PROPERTY + ":pooled}")
+  private String client;
+
+  @Value("${product-api.timeouts.read}")
+  private int readTimeout;
+  @Value("${product-api.timeouts.connect}")
+  private int connectTimeout;
+  @Value("${product-api.http.max-connections}")
+  private int maxConnections;
+  @Value("${product-api.http.max-connections-per-route}")
+  private int maxConnectionsPerRoute;
+  @Value("${product-api.http.keep-alive}")
+  private long keepAlive;
+  @Value("${product-api.http.idle-timeout}")
+  private long idleTimeout;
+
+  @PostConstruct
+  void validateClient() {
+    if (!SUPPORTED_CLIENTS.contains(client.toLowerCase(Locale.ROOT))) {
+      throw new IllegalStateException("Unsupported " + CLIENT_PROPERTY + " '" + client
+          + "', expected one of " + String.join(", ", SUPPORTED_CLIENTS));
+    }
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "simple")
+  public ClientHttpRequestFactory simpleProductApiRequestFactory() {
+    var requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout(connectTimeout);
+    requestFactory.setReadTimeout(readTimeout);
+    return requestFactory;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "jdk")
+  public ClientHttpRequestFactory jdkProductApiRequestFactory(
+      ExecutorService virtualThreadExecutor) {
+    var httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(connectTimeout))
+        .executor(virtualThreadExecutor)
+        .build();
+    var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeout));
+    return requestFactory;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "pooled", matchIfMissing = true)
+  public PoolingHttpClientConnectionManager productApiConnectionManager() {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(maxConnections)
+        .setMaxConnPerRoute(maxConnectionsPerRoute)
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+            .build())
+        .build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "pooled", matchIfMissing = true)
+  public ClientHttpRequestFactory pooledProductApiRequestFactory(
+      PoolingHttpClientConnectionManager productApiConnectionManager) {
+    var httpClient = HttpClients.custom()
+        .setConnectionManager(productApiConnectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout))
+            .build())
+        .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive))
+        .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout))
+        .evictExpiredConnections()
+        .build();
+    return new HttpComponentsClientHttpRequestFactory(httpClient);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "pooled", matchIfMissing = true)
+  public MeterBinder productApiConnectionPoolMetrics(
+      PoolingHttpClientConnectionManager productApiConnectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(productApiConnectionManager,
+        "product-api");
+  }
+}
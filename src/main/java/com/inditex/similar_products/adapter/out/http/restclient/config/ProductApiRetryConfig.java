@@ -0,0 +1,59 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry.BudgetedRetryConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetryRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductApiRetryConfig {
+
+  private static final String NAME_TAG = "name";
+
+  @Value("${product-api.retry.max-attempts}")
+  private int maxAttempts;
+  @Value("${product-api.retry.delay}")
+  private long delay;
+  @Value("${product-api.retry.multiplier}")
+  private double multiplier;
+  @Value("${product-api.retry.max-delay}")
+  private long maxDelay;
+  @Value("${product-api.retry.budget.ratio}")
+  private double budgetRatio;
+  @Value("${product-api.retry.budget.max-tokens}")
+  private double budgetMaxTokens;
+
+  @Bean
+  public BudgetedRetryRegistry productApiRetryRegistry() {
+    var config = new BudgetedRetryConfig(maxAttempts, Duration.ofMillis(delay), multiplier,
+        Duration.ofMillis(maxDelay), budgetRatio, budgetMaxTokens,
+        ProductRestClient::isRetryable);
+    var registry = new BudgetedRetryRegistry(config);
+    registry.retry(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT);
+    registry.retry(ProductRestClient.PRODUCT_DETAILS_ENDPOINT);
+    return registry;
+  }
+
+  @Bean
+  public MeterBinder productApiRetryMetrics(BudgetedRetryRegistry productApiRetryRegistry) {
+    return registry -> productApiRetryRegistry.getAllRetries().forEach(retry -> {
+      FunctionCounter.builder("product.api.retry.attempts", retry, BudgetedRetry::retries)
+          .tag(NAME_TAG, retry.getName())
+          .register(registry);
+      FunctionCounter.builder("product.api.retry.budget.rejections", retry,
+              BudgetedRetry::budgetRejections)
+          .tag(NAME_TAG, retry.getName())
+          .register(registry);
+      Gauge.builder("product.api.retry.budget.available", retry, BudgetedRetry::availableBudget)
+          .tag(NAME_TAG, retry.getName())
+          .register(registry);
+    });
+  }
+}
@@ -0,0 +1,50 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductDetailsValidatorCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductApiRevalidationConfig {
+
+  private static final String RESULT_TAG = "result";
+
+  @Value("${product-api.revalidation.enabled}")
+  private boolean enabled;
+  @Value("${product-api.cache.products.max-size}")
+  private long productsMaxSize;
+  @Value("${product-api.cache.products.ttl}")
+  private long productsTtl;
+  @Value("${product-api.cache.products.stale-while-revalidate}")
+  private long productsStaleWhileRevalidate;
+
+  @Bean
+  public ProductDetailsValidatorCache productDetailsValidatorCache() {
+    if (!enabled) {
+      return ProductDetailsValidatorCache.disabled();
+    }
+    return new ProductDetailsValidatorCache(Caffeine.newBuilder()
+        .maximumSize(productsMaxSize)
+        .expireAfterAccess(Duration.ofMillis(productsTtl + productsStaleWhileRevalidate)));
+  }
+
+  @Bean
+  public MeterBinder productApiRevalidationMetrics(
+      ProductDetailsValidatorCache productDetailsValidatorCache) {
+    return registry -> {
+      FunctionCounter.builder("product.api.revalidations", productDetailsValidatorCache,
+              ProductDetailsValidatorCache::notModified)
+          .tag(RESULT_TAG, "not-modified")
+          .register(registry);
+      FunctionCounter.builder("product.api.revalidations", productDetailsValidatorCache,
+              ProductDetailsValidatorCache::modified)
+          .tag(RESULT_TAG, "modified")
+          .register(registry);
+    };
+  }
+}
@@ -1,36 +1,68 @@
 package com.inditex.similar_products.adapter.out.http.restclient.config;
 
-import java.util.concurrent.ExecutorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.out.http.restclient.client.DeadlineClientHttpRequestInterceptor;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.TrackingExecutorService;
+import com.inditex.similar_products.adapter.out.http.restclient.json.ProductHttpMessageConverter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class SimilarProductRestClientConfig {
 
+  private static final String NAME_TAG = "name";
+  private static final String VIRTUAL_THREAD_EXECUTOR = "virtualThreadExecutor";
+
   @Value("${product-api.base-url}")
   private String baseUrl;
-  @Value("${product-api.timeouts.read}")
-  private int readTimeout;
-  @Value("${product-api.timeouts.connect}")
-  private int connectTimeout;
 
   @Bean
-  public RestClient productApiRestClient(RestClient.Builder builder) {
-    var requestFactory = new SimpleClientHttpRequestFactory();
-    requestFactory.setConnectTimeout(connectTimeout);
-    requestFactory.setReadTimeout(readTimeout);
+  public RestClient productApiRestClient(RestClient.Builder builder,
+      ClientHttpRequestFactory productApiRequestFactory,
+      DeadlineClientHttpRequestInterceptor deadlineClientHttpRequestInterceptor,
+      ObjectMapper objectMapper) {
     return builder
         .baseUrl(baseUrl)
-        .requestFactory(requestFactory)
+        .requestFactory(productApiRequestFactory)
+        .requestInterceptor(deadlineClientHttpRequestInterceptor)
+        .messageConverters(converters -> converters.add(0,
+            new ProductHttpMessageConverter(objectMapper.getFactory())))
         .build();
   }
 
   @Bean(destroyMethod = "close")
-  public ExecutorService virtualThreadExecutor() {
-    return Executors.newVirtualThreadPerTaskExecutor();
+  public DeadlineClientHttpRequestInterceptor deadlineClientHttpRequestInterceptor() {
+    return new DeadlineClientHttpRequestInterceptor();
+  }
+
+  @Bean(destroyMethod = "close")
+  public TrackingExecutorService virtualThreadExecutor() {
+    return new TrackingExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Bean
+  public MeterBinder virtualThreadExecutorMetrics(TrackingExecutorService virtualThreadExecutor) {
+    return registry -> {
+      Gauge.builder("executor.queued", virtualThreadExecutor, TrackingExecutorService::queued)
+          .tag(NAME_TAG, VIRTUAL_THREAD_EXECUTOR)
+          .baseUnit("tasks")
+          .register(registry);
+      Gauge.builder("executor.active", virtualThreadExecutor, TrackingExecutorService::running)
+          .tag(NAME_TAG, VIRTUAL_THREAD_EXECUTOR)
+          .baseUnit("threads")
+          .register(registry);
+      FunctionCounter.builder("executor.completed", virtualThreadExecutor,
+              TrackingExecutorService::completed)
+          .tag(NAME_TAG, VIRTUAL_THREAD_EXECUTOR)
+          .baseUnit("tasks")
+          .register(registry);
+    };
   }
 }
@@ -0,0 +1,48 @@
+package com.inditex.similar_products.adapter.out.http.restclient.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.inditex.similar_products.domain.model.Product;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+public class ProductHttpMessageConverter extends AbstractHttpMessageConverter<Product> {
+
+  private final JsonFactory jsonFactory;
+
+  public ProductHttpMessageConverter(JsonFactory jsonFactory) {
+    super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    this.jsonFactory = jsonFactory;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return Product.class == clazz;
+  }
+
+  @Override
+  protected boolean canWrite(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected Product readInternal(Class<? extends Product> clazz, HttpInputMessage inputMessage)
+      throws IOException {
+    try (var parser = jsonFactory.createParser(inputMessage.getBody())) {
+      return ProductJsonDecoder.read(parser);
+    } catch (JsonProcessingException e) {
+      throw new HttpMessageNotReadableException("Invalid product JSON: " + e.getOriginalMessage(),
+          e, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Product product, HttpOutputMessage outputMessage) {
+    throw new HttpMessageNotWritableException("Products are not written to the product API");
+  }
+}
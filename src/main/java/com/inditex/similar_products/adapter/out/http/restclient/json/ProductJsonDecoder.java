@@ -0,0 +1,102 @@
+package com.inditex.similar_products.adapter.out.http.restclient.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.IOException;
+import java.math.BigDecimal;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads a product details body ({@code id}, {@code name}, {@code price}, {@code availability})
+ * token by token straight into a {@link Product}, without data binding or an intermediate DTO.
+ * Prices are read from their textual form, so their scale is kept exactly, and unknown fields
+ * are skipped. Scalar coercions match the data binding defaults: numeric ids become strings,
+ * and quoted prices and booleans are parsed.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class ProductJsonDecoder {
+
+  public static Product read(JsonParser parser) throws IOException {
+    var token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+    if (token == null || token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected a product object but found " + token);
+    }
+    String id = null;
+    String name = null;
+    BigDecimal price = null;
+    Boolean availability = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var field = parser.currentName();
+      token = parser.nextToken();
+      switch (field) {
+        case "id" -> id = readString(parser, token);
+        case "name" -> name = readString(parser, token);
+        case "price" -> price = readDecimal(parser, token);
+        case "availability" -> availability = readBoolean(parser, token);
+        default -> parser.skipChildren();
+      }
+    }
+    return new Product(new ProductId(id), name, price, availability);
+  }
+
+  private static String readString(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!token.isScalarValue()) {
+      throw new JsonParseException(parser, "Expected a string but found " + token);
+    }
+    return parser.getValueAsString();
+  }
+
+  private static BigDecimal readDecimal(JsonParser parser, JsonToken token) throws IOException {
+    return switch (token) {
+      case VALUE_NULL -> null;
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+      case VALUE_STRING -> parseDecimal(parser);
+      default -> throw new JsonParseException(parser, "Expected a price but found " + token);
+    };
+  }
+
+  private static BigDecimal parseDecimal(JsonParser parser) throws IOException {
+    var text = parser.getText().trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    try {
+      return new BigDecimal(text);
+    } catch (NumberFormatException e) {
+      throw new JsonParseException(parser, "Invalid price " + text, e);
+    }
+  }
+
+  private static Boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+    return switch (token) {
+      case VALUE_NULL -> null;
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_STRING -> parseBoolean(parser);
+      default -> throw new JsonParseException(parser, "Expected a boolean but found " + token);
+    };
+  }
+
+  private static Boolean parseBoolean(JsonParser parser) throws IOException {
+    var text = parser.getText().trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    if ("true".equalsIgnoreCase(text)) {
+      return Boolean.TRUE;
+    }
+    if ("false".equalsIgnoreCase(text)) {
+      return Boolean.FALSE;
+    }
+    throw new JsonParseException(parser, "Invalid boolean " + text);
+  }
+}
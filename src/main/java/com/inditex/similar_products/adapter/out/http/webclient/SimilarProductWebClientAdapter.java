@@ -0,0 +1,89 @@
+package com.inditex.similar_products.adapter.out.http.webclient;
+
+import com.inditex.similar_products.adapter.out.http.webclient.client.ProductWebClient;
+import com.inditex.similar_products.adapter.out.http.webclient.mapper.ProductWebClientDtoMapper;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsAsyncPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsAsyncPort;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "reactive")
+public class SimilarProductWebClientAdapter implements GetSimilarProductIdsAsyncPort,
+    GetProductsByIdsAsyncPort {
+
+  private final ProductWebClient productWebClient;
+
+  @Override
+  public CompletableFuture<List<ProductId>> getSimilarProductIds(ProductId productId,
+      Deadline deadline) {
+    return withinDeadline(productWebClient.getSimilarProductIds(productId.value()), deadline,
+        "retrieving similar product ids for product " + productId.value())
+        .map(ids -> ids.stream().map(ProductId::new).toList())
+        .toFuture();
+  }
+
+  @Override
+  public CompletableFuture<List<Product>> getProducts(List<ProductId> productIds,
+      Deadline deadline) {
+    return withinDeadline(Flux.fromIterable(productIds)
+            .flatMapSequential(id -> productWebClient.getProductById(id.value()))
+            .map(ProductWebClientDtoMapper::toProduct)
+            .collectList(), deadline, "retrieving products " + productIds)
+        .toFuture();
+  }
+
+  @Override
+  public CompletableFuture<PartialProducts> getAvailableProducts(List<ProductId> productIds,
+      Deadline deadline) {
+    return Flux.fromIterable(productIds)
+        .flatMapSequential(id -> withinDeadline(productWebClient.getProductById(id.value()),
+            deadline, "retrieving product " + id.value())
+            .map(dto -> Optional.of(ProductWebClientDtoMapper.toProduct(dto)))
+            .onErrorResume(e -> {
+              log.warn("Omitting product {} from the response: {}", id.value(),
+                  e instanceof DeadlineExceededException ? "request deadline exceeded"
+                      : e.getMessage());
+              return Mono.just(Optional.empty());
+            }))
+        .collectList()
+        .map(results -> {
+          var products = new ArrayList<Product>(productIds.size());
+          var omittedProductIds = new ArrayList<ProductId>();
+          for (int i = 0; i < productIds.size(); i++) {
+            var product = results.get(i);
+            if (product.isPresent()) {
+              products.add(product.get());
+            } else {
+              omittedProductIds.add(productIds.get(i));
+            }
+          }
+          return new PartialProducts(products, omittedProductIds);
+        })
+        .toFuture();
+  }
+
+  private static <T> Mono<T> withinDeadline(Mono<T> call, Deadline deadline, String operation) {
+    return Mono.defer(() -> deadline.isExpired()
+            ? Mono.<T>error(new TimeoutException())
+            : call.timeout(deadline.remaining()))
+        .onErrorMap(TimeoutException.class,
+            e -> new DeadlineExceededException("Request deadline exceeded while " + operation));
+  }
+}
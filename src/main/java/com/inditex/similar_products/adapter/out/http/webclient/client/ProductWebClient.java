@@ -0,0 +1,104 @@
+package com.inditex.similar_products.adapter.out.http.webclient.client;
+
+import static com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient.PRODUCT_DETAILS_ENDPOINT;
+import static com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetryRegistry;
+import com.inditex.similar_products.adapter.out.http.webclient.dto.ProductWebClientDto;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "reactive")
+public class ProductWebClient {
+
+  @Value("${product-api.similar-product-ids-url}")
+  private String getSimilarProductIdsUrl;
+
+  @Value("${product-api.product-details-url}")
+  private String getProductDetailsUrl;
+
+  private final WebClient productApiWebClient;
+
+  private final CircuitBreakerRegistry productApiCircuitBreakerRegistry;
+
+  private final BudgetedRetryRegistry productApiRetryRegistry;
+
+  public Mono<List<String>> getSimilarProductIds(String productId) {
+    var retry = productApiRetryRegistry.retry(SIMILAR_PRODUCT_IDS_ENDPOINT);
+    return productApiWebClient.get()
+        .uri(getSimilarProductIdsUrl, productId)
+        .retrieve()
+        .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+            response -> Mono.error(
+                new ProductNotFoundException("Product " + productId + " was not found")))
+        .bodyToMono(new ParameterizedTypeReference<List<String>>() {
+        })
+        .defaultIfEmpty(List.of())
+        .transformDeferred(CircuitBreakerOperator.of(
+            productApiCircuitBreakerRegistry.circuitBreaker(SIMILAR_PRODUCT_IDS_ENDPOINT)))
+        .retryWhen(retryWhen(retry))
+        .doOnSubscribe(subscription -> retry.recordCall())
+        .doOnError(ProductNotFoundException.class,
+            e -> log.warn("Product {} was not found", productId))
+        .onErrorMap(e -> !(e instanceof ProductNotFoundException), e -> recover(e,
+            SIMILAR_PRODUCT_IDS_ENDPOINT,
+            "retrieving similar product ids for product: " + productId));
+  }
+
+  public Mono<ProductWebClientDto> getProductById(String productId) {
+    var retry = productApiRetryRegistry.retry(PRODUCT_DETAILS_ENDPOINT);
+    return productApiWebClient.get()
+        .uri(getProductDetailsUrl, productId)
+        .retrieve()
+        .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+            response -> Mono.error(
+                new ProductNotFoundException("Product " + productId + " was not found")))
+        .bodyToMono(ProductWebClientDto.class)
+        .switchIfEmpty(Mono.error(() -> new SimilarProductsRetrievalException(
+            "Empty product retrieved for id " + productId)))
+        .transformDeferred(CircuitBreakerOperator.of(
+            productApiCircuitBreakerRegistry.circuitBreaker(PRODUCT_DETAILS_ENDPOINT)))
+        .retryWhen(retryWhen(retry))
+        .doOnSubscribe(subscription -> retry.recordCall())
+        .onErrorMap(e -> recover(e, PRODUCT_DETAILS_ENDPOINT,
+            "retrieving product with id: " + productId));
+  }
+
+  /**
+   * Retries with the same jittered backoff, budget and failure classification as the blocking
+   * engine.
+   */
+  private static Retry retryWhen(BudgetedRetry retry) {
+    return Retry.from(signals -> signals.concatMap(signal -> retry
+        .nextRetryDelay((int) signal.totalRetries() + 1, signal.failure())
+        .map(Mono::delay)
+        .orElseGet(() -> Mono.error(signal.failure()))));
+  }
+
+  private static Throwable recover(Throwable e, String endpoint, String operation) {
+    if (e instanceof CallNotPermittedException) {
+      log.warn("Circuit breaker {} is open while {}", endpoint, operation);
+      return new SimilarProductsRetrievalException("Product API unavailable " + operation);
+    }
+    log.error("Something went wrong {}", operation, e);
+    return new SimilarProductsRetrievalException("Something went wrong " + operation);
+  }
+}
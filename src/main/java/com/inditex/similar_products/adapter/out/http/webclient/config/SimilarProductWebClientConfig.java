@@ -0,0 +1,51 @@
+package com.inditex.similar_products.adapter.out.http.webclient.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "reactive")
+public class SimilarProductWebClientConfig {
+
+  @Value("${product-api.base-url}")
+  private String baseUrl;
+  @Value("${product-api.timeouts.read}")
+  private long readTimeout;
+  @Value("${product-api.timeouts.connect}")
+  private int connectTimeout;
+  @Value("${product-api.http.max-connections}")
+  private int maxConnections;
+  @Value("${product-api.http.idle-timeout}")
+  private long idleTimeout;
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider productApiConnectionProvider() {
+    return ConnectionProvider.builder("product-api")
+        .maxConnections(maxConnections)
+        .pendingAcquireTimeout(Duration.ofMillis(connectTimeout))
+        .maxIdleTime(Duration.ofMillis(idleTimeout))
+        .evictInBackground(Duration.ofMillis(idleTimeout))
+        .metrics(true)
+        .build();
+  }
+
+  @Bean
+  public WebClient productApiWebClient(WebClient.Builder builder,
+      ConnectionProvider productApiConnectionProvider) {
+    var httpClient = HttpClient.create(productApiConnectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+        .responseTimeout(Duration.ofMillis(readTimeout));
+    return builder
+        .baseUrl(baseUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+  }
+}
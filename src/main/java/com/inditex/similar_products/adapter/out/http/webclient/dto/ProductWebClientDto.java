@@ -0,0 +1,7 @@
+package com.inditex.similar_products.adapter.out.http.webclient.dto;
+
+import java.math.BigDecimal;
+
+public record ProductWebClientDto(String id, String name, BigDecimal price, Boolean availability) {
+
+}
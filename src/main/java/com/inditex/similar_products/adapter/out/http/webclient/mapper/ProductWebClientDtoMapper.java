@@ -0,0 +1,19 @@
+package com.inditex.similar_products.adapter.out.http.webclient.mapper;
+
+import com.inditex.similar_products.adapter.out.http.webclient.dto.ProductWebClientDto;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class ProductWebClientDtoMapper {
+
+  public static Product toProduct(ProductWebClientDto productWebClientDto) {
+    return new Product(
+        new ProductId(productWebClientDto.id()),
+        productWebClientDto.name(),
+        productWebClientDto.price(),
+        productWebClientDto.availability()
+    );
+  }
+}
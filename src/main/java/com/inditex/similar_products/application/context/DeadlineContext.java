@@ -0,0 +1,71 @@
+package com.inditex.similar_products.application.context;
+
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.model.Deadline;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class DeadlineContext {
+
+  private static final ThreadLocal<Deadline> CURRENT_DEADLINE = new ThreadLocal<>();
+
+  public static Optional<Deadline> current() {
+    return Optional.ofNullable(CURRENT_DEADLINE.get());
+  }
+
+  public static <T> T supplyWithin(Deadline deadline, Supplier<T> supplier) {
+    var previous = enter(deadline);
+    try {
+      return supplier.get();
+    } finally {
+      exit(previous);
+    }
+  }
+
+  public static <T> T callWithin(Deadline deadline, Callable<T> call) throws Exception {
+    var previous = enter(deadline);
+    try {
+      return call.call();
+    } finally {
+      exit(previous);
+    }
+  }
+
+  public static <T> Supplier<T> propagating(Supplier<T> supplier) {
+    var deadline = CURRENT_DEADLINE.get();
+    return deadline == null ? supplier : () -> supplyWithin(deadline, supplier);
+  }
+
+  /**
+   * Binds the current deadline to a call that runs on another thread, such as the product detail
+   * calls of a fan-out.
+   */
+  public static <T> Callable<T> propagatingCall(Callable<T> call) {
+    var deadline = CURRENT_DEADLINE.get();
+    return deadline == null ? call : () -> callWithin(deadline, call);
+  }
+
+  public static void checkNotExpired(String operation) {
+    var deadline = CURRENT_DEADLINE.get();
+    if (deadline != null && deadline.isExpired()) {
+      throw new DeadlineExceededException("Request deadline exceeded before " + operation);
+    }
+  }
+
+  private static Deadline enter(Deadline deadline) {
+    var previous = CURRENT_DEADLINE.get();
+    CURRENT_DEADLINE.set(deadline);
+    return previous;
+  }
+
+  private static void exit(Deadline previous) {
+    if (previous == null) {
+      CURRENT_DEADLINE.remove();
+    } else {
+      CURRENT_DEADLINE.set(previous);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.inditex.similar_products.application.port.in;
+
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetSimilarProductsAsyncUseCase {
+
+  CompletableFuture<List<Product>> getSimilarProducts(ProductId productId, Deadline deadline);
+
+  CompletableFuture<PartialProducts> getAvailableSimilarProducts(ProductId productId,
+      Deadline deadline);
+}
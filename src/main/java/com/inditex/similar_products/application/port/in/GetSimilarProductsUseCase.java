@@ -1,10 +1,20 @@
 package com.inditex.similar_products.application.port.in;
 
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
+import com.inditex.similar_products.domain.model.ProductStream;
+import com.inditex.similar_products.domain.model.SimilarProductsOutcome;
 import java.util.List;
+import java.util.Map;
 
 public interface GetSimilarProductsUseCase {
 
   List<Product> getSimilarProducts(ProductId productId);
+
+  PartialProducts getAvailableSimilarProducts(ProductId productId);
+
+  ProductStream streamSimilarProducts(ProductId productId, boolean ordered);
+
+  Map<ProductId, SimilarProductsOutcome> getSimilarProductsBatch(List<ProductId> productIds);
 }
@@ -0,0 +1,16 @@
+package com.inditex.similar_products.application.port.out;
+
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetProductsByIdsAsyncPort {
+
+  CompletableFuture<List<Product>> getProducts(List<ProductId> productIds, Deadline deadline);
+
+  CompletableFuture<PartialProducts> getAvailableProducts(List<ProductId> productIds,
+      Deadline deadline);
+}
@@ -1,10 +1,17 @@
 package com.inditex.similar_products.application.port.out;
 
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface GetProductsByIdsPort {
 
   List<Product> getProducts(List<ProductId> productIds);
+
+  PartialProducts getAvailableProducts(List<ProductId> productIds);
+
+  List<ProductId> streamAvailableProducts(List<ProductId> productIds, boolean ordered,
+      Consumer<Product> onProduct);
 }
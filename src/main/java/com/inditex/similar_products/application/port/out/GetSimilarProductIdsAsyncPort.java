@@ -0,0 +1,11 @@
+package com.inditex.similar_products.application.port.out;
+
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetSimilarProductIdsAsyncPort {
+
+  CompletableFuture<List<ProductId>> getSimilarProductIds(ProductId productId, Deadline deadline);
+}
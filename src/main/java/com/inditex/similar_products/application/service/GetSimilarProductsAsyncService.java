@@ -0,0 +1,36 @@
+package com.inditex.similar_products.application.service;
+
+import com.inditex.similar_products.application.port.in.GetSimilarProductsAsyncUseCase;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsAsyncPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsAsyncPort;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "similar-products.engine", havingValue = "reactive")
+public class GetSimilarProductsAsyncService implements GetSimilarProductsAsyncUseCase {
+  private final GetSimilarProductIdsAsyncPort getSimilarProductIdsAsyncPort;
+  private final GetProductsByIdsAsyncPort getProductsByIdsAsyncPort;
+
+  @Override
+  public CompletableFuture<List<Product>> getSimilarProducts(ProductId productId,
+      Deadline deadline) {
+    return getSimilarProductIdsAsyncPort.getSimilarProductIds(productId, deadline)
+        .thenCompose(ids -> getProductsByIdsAsyncPort.getProducts(ids, deadline));
+  }
+
+  @Override
+  public CompletableFuture<PartialProducts> getAvailableSimilarProducts(ProductId productId,
+      Deadline deadline) {
+    return getSimilarProductIdsAsyncPort.getSimilarProductIds(productId, deadline)
+        .thenCompose(ids -> getProductsByIdsAsyncPort.getAvailableProducts(ids, deadline));
+  }
+}
@@ -1,11 +1,26 @@
 package com.inditex.similar_products.application.service;
 
+import com.inditex.similar_products.application.context.DeadlineContext;
 import com.inditex.similar_products.application.port.in.GetSimilarProductsUseCase;
 import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
 import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
+import com.inditex.similar_products.domain.model.ProductStream;
+import com.inditex.similar_products.domain.model.SimilarProductsOutcome;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,10 +29,81 @@ import org.springframework.stereotype.Service;
 public class GetSimilarProductsService implements GetSimilarProductsUseCase {
   private final GetSimilarProductIdsPort getSimilarProductIdsPort;
   private final GetProductsByIdsPort getProductsByIdsPort;
+  private final ExecutorService virtualThreadExecutor;
 
   @Override
   public List<Product> getSimilarProducts(ProductId productId) {
     var similarProductIds = getSimilarProductIdsPort.getSimilarProductIds(productId);
     return getProductsByIdsPort.getProducts(similarProductIds);
   }
+
+  @Override
+  public PartialProducts getAvailableSimilarProducts(ProductId productId) {
+    var similarProductIds = getSimilarProductIdsPort.getSimilarProductIds(productId);
+    return getProductsByIdsPort.getAvailableProducts(similarProductIds);
+  }
+
+  @Override
+  public ProductStream streamSimilarProducts(ProductId productId, boolean ordered) {
+    var similarProductIds = getSimilarProductIdsPort.getSimilarProductIds(productId);
+    return onProduct -> getProductsByIdsPort.streamAvailableProducts(similarProductIds, ordered,
+        onProduct);
+  }
+
+  @Override
+  public Map<ProductId, SimilarProductsOutcome> getSimilarProductsBatch(
+      List<ProductId> productIds) {
+    var similarIdsRequests = new LinkedHashMap<ProductId, CompletableFuture<List<ProductId>>>();
+    productIds.stream().distinct().forEach(id -> similarIdsRequests.put(id,
+        CompletableFuture.supplyAsync(DeadlineContext.propagating(
+            () -> getSimilarProductIdsPort.getSimilarProductIds(id)), virtualThreadExecutor)));
+    var outcomes = new LinkedHashMap<ProductId, SimilarProductsOutcome>();
+    var similarIdsByProduct = new HashMap<ProductId, List<ProductId>>();
+    var uniqueSimilarIds = new LinkedHashSet<ProductId>();
+    similarIdsRequests.forEach((id, request) -> {
+      try {
+        var similarIds = request.join();
+        similarIdsByProduct.put(id, similarIds);
+        uniqueSimilarIds.addAll(similarIds);
+        outcomes.put(id, null);
+      } catch (CompletionException e) {
+        outcomes.put(id, SimilarProductsOutcome.failed(unwrap(e)));
+      }
+    });
+    if (similarIdsByProduct.isEmpty()) {
+      return outcomes;
+    }
+    PartialProducts availableProducts;
+    try {
+      availableProducts = getProductsByIdsPort.getAvailableProducts(
+          List.copyOf(uniqueSimilarIds));
+    } catch (RuntimeException e) {
+      similarIdsByProduct.keySet()
+          .forEach(id -> outcomes.put(id, SimilarProductsOutcome.failed(e)));
+      return outcomes;
+    }
+    var productsById = new HashMap<ProductId, Product>();
+    availableProducts.products().forEach(product -> productsById.put(product.getId(), product));
+    similarIdsByProduct.forEach((id, similarIds) -> {
+      var missingIds = similarIds.stream().filter(similarId -> !productsById.containsKey(similarId))
+          .toList();
+      outcomes.put(id, missingIds.isEmpty()
+          ? SimilarProductsOutcome.found(similarIds.stream().map(productsById::get).toList())
+          : SimilarProductsOutcome.failed(missingProductsError(missingIds)));
+    });
+    return outcomes;
+  }
+
+  private static RuntimeException missingProductsError(List<ProductId> missingIds) {
+    var ids = missingIds.stream().map(ProductId::value).collect(Collectors.joining(", "));
+    if (DeadlineContext.current().map(Deadline::isExpired).orElse(false)) {
+      return new DeadlineExceededException(
+          "Request deadline exceeded while retrieving products " + ids);
+    }
+    return new SimilarProductsRetrievalException("Products " + ids + " could not be retrieved");
+  }
+
+  private static RuntimeException unwrap(CompletionException e) {
+    return e.getCause() instanceof RuntimeException cause ? cause : e;
+  }
 }
@@ -0,0 +1,8 @@
+package com.inditex.similar_products.domain.exception;
+
+public class DeadlineExceededException extends SimilarProductsRetrievalException {
+
+  public DeadlineExceededException(String message) {
+    super(message);
+  }
+}
@@ -5,4 +5,16 @@ public class ProductNotFoundException extends RuntimeException {
   public ProductNotFoundException(String message) {
     super(message);
   }
+
+  /**
+   * Creates an exception without a stack trace or suppressed exceptions, so a single instance
+   * can be kept and thrown again from any thread.
+   */
+  public static ProductNotFoundException withoutStackTrace(String message) {
+    return new ProductNotFoundException(message, false);
+  }
+
+  private ProductNotFoundException(String message, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+  }
 }
@@ -0,0 +1,18 @@
+package com.inditex.similar_products.domain.model;
+
+import java.time.Duration;
+
+public record Deadline(long expiresAtNanos) {
+
+  public static Deadline after(Duration timeout) {
+    return new Deadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+  }
+
+  public boolean isExpired() {
+    return expiresAtNanos - System.nanoTime() <= 0;
+  }
+}
@@ -0,0 +1,7 @@
+package com.inditex.similar_products.domain.model;
+
+import java.util.List;
+
+public record PartialProducts(List<Product> products, List<ProductId> omittedProductIds) {
+
+}
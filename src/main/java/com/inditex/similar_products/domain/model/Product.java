@@ -1,6 +1,7 @@
 package com.inditex.similar_products.domain.model;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 public class Product {
 
@@ -31,4 +32,23 @@ public class Product {
   public Boolean getIsAvailable() {
     return isAvailable;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Product product)) {
+      return false;
+    }
+    return Objects.equals(id, product.id)
+        && Objects.equals(name, product.name)
+        && Objects.equals(price, product.price)
+        && Objects.equals(isAvailable, product.isAvailable);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, name, price, isAvailable);
+  }
 }
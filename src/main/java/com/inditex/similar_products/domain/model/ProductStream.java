@@ -0,0 +1,10 @@
+package com.inditex.similar_products.domain.model;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface ProductStream {
+
+  List<ProductId> forEachAvailable(Consumer<Product> onProduct);
+}
@@ -0,0 +1,18 @@
+package com.inditex.similar_products.domain.model;
+
+import java.util.List;
+
+public record SimilarProductsOutcome(List<Product> products, RuntimeException error) {
+
+  public static SimilarProductsOutcome found(List<Product> products) {
+    return new SimilarProductsOutcome(products, null);
+  }
+
+  public static SimilarProductsOutcome failed(RuntimeException error) {
+    return new SimilarProductsOutcome(List.of(), error);
+  }
+
+  public boolean isFailed() {
+    return error != null;
+  }
+}
@@ -0,0 +1,176 @@
+package com.inditex.similar_products.adapter.in.web.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimilarProductsResponseCacheTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_5 = new ProductId("5");
+  private static final long FIXED_MAX_TRACKED_CHANGES = 100;
+  private static final Product FIXED_PRODUCT_2 =
+      new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true);
+  private static final Product FIXED_PRODUCT_3 =
+      new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false);
+  private static final Product FIXED_PRODUCT_4 =
+      new Product(new ProductId("4"), "Boots", BigDecimal.valueOf(39.99), true);
+
+  private SimilarProductsResponseCache similarProductsResponseCache;
+
+  @BeforeEach
+  void setup() {
+    similarProductsResponseCache = new SimilarProductsResponseCache(
+        Caffeine.newBuilder().executor(Runnable::run), FIXED_MAX_TRACKED_CHANGES);
+  }
+
+  @Test
+  void getShouldReturnResponseWhenItWasCached() {
+    var response = SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3));
+
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1, response,
+        similarProductsResponseCache.version());
+
+    assertEquals(response, similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).orElseThrow());
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_5).isEmpty());
+  }
+
+  @Test
+  void invalidateProductShouldRemoveEveryResponseContainingTheProduct() {
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)),
+        similarProductsResponseCache.version());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_5,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_4)),
+        similarProductsResponseCache.version());
+
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_3.getId());
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_5).isPresent());
+  }
+
+  @Test
+  void invalidateSimilarProductIdsShouldRemoveOnlyTheResponseOfTheProduct() {
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2)),
+        similarProductsResponseCache.version());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_5,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2)),
+        similarProductsResponseCache.version());
+
+    similarProductsResponseCache.invalidateSimilarProductIds(FIXED_PRODUCT_ID_1);
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_5).isPresent());
+  }
+
+  @Test
+  void putShouldNotStoreResponseWhenAProductChangedWhileItWasAssembled() {
+    var assembledAt = similarProductsResponseCache.version();
+
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_3.getId());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)), assembledAt);
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+    assertEquals(0, similarProductsResponseCache.indexedProducts());
+  }
+
+  @Test
+  void putShouldNotStoreResponseWhenSimilarIdsChangedWhileItWasAssembled() {
+    var assembledAt = similarProductsResponseCache.version();
+
+    similarProductsResponseCache.invalidateSimilarProductIds(FIXED_PRODUCT_ID_1);
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2)), assembledAt);
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+  }
+
+  @Test
+  void putShouldStoreResponseWhenOnlyUnrelatedProductsChangedWhileItWasAssembled() {
+    var assembledAt = similarProductsResponseCache.version();
+
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_4.getId());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)), assembledAt);
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isPresent());
+  }
+
+  @Test
+  void putShouldNotStoreResponseWhenChangesSinceItWasAssembledAreNoLongerTracked() {
+    similarProductsResponseCache = new SimilarProductsResponseCache(
+        Caffeine.newBuilder().executor(Runnable::run), 1);
+    var assembledAt = similarProductsResponseCache.version();
+
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_3.getId());
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_4.getId());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2)), assembledAt);
+
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+  }
+
+  @Test
+  void removedResponsesShouldBeDroppedFromTheProductIndex() {
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)),
+        similarProductsResponseCache.version());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_5,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_3)),
+        similarProductsResponseCache.version());
+
+    similarProductsResponseCache.invalidateSimilarProductIds(FIXED_PRODUCT_ID_1);
+
+    assertEquals(1, similarProductsResponseCache.indexedProducts());
+    similarProductsResponseCache.invalidateSimilarProductIds(FIXED_PRODUCT_ID_5);
+    assertEquals(0, similarProductsResponseCache.indexedProducts());
+  }
+
+  @Test
+  void replacedResponsesShouldKeepTheProductsOfTheNewResponseIndexed() {
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)),
+        similarProductsResponseCache.version());
+    similarProductsResponseCache.put(FIXED_PRODUCT_ID_1,
+        SimilarProductsResponse.of(List.of(FIXED_PRODUCT_3)),
+        similarProductsResponseCache.version());
+
+    assertEquals(1, similarProductsResponseCache.indexedProducts());
+    similarProductsResponseCache.invalidateProduct(FIXED_PRODUCT_3.getId());
+    assertTrue(similarProductsResponseCache.get(FIXED_PRODUCT_ID_1).isEmpty());
+  }
+
+  @Test
+  void eTagShouldBeEqualWhenProductsAreEqual() {
+    var response = SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3));
+
+    var sameResponse = SimilarProductsResponse.of(List.of(
+        new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true),
+        new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false)));
+
+    assertEquals(response.eTag(), sameResponse.eTag());
+    assertTrue(response.eTag().matches("\"[0-9a-f]{32}\""));
+  }
+
+  @Test
+  void eTagShouldChangeWhenAnyProductOrTheOrderChanges() {
+    var eTag = SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2, FIXED_PRODUCT_3)).eTag();
+
+    assertNotEquals(eTag, SimilarProductsResponse.of(List.of(FIXED_PRODUCT_3, FIXED_PRODUCT_2))
+        .eTag());
+    assertNotEquals(eTag, SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2,
+        new Product(new ProductId("3"), "Blazer", new BigDecimal("29.990"), false))).eTag());
+    assertNotEquals(eTag, SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2,
+        new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), null))).eTag());
+    assertNotEquals(eTag, SimilarProductsResponse.of(List.of(FIXED_PRODUCT_2)).eTag());
+  }
+}
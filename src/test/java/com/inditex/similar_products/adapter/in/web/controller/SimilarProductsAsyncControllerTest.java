@@ -0,0 +1,174 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponse;
+import com.inditex.similar_products.application.port.in.GetSimilarProductsAsyncUseCase;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import com.jayway.jsonpath.JsonPath;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@WebMvcTest(value = SimilarProductsAsyncController.class,
+    properties = "similar-products.engine=reactive")
+@Import(GlobalExceptionHandler.class)
+class SimilarProductsAsyncControllerTest {
+
+  private static final ProductId FIXED_PRODUCT_ID = new ProductId("1");
+  private static final String BASE_URL = "/product";
+  private static final List<Product> FIXED_LIST_OF_SIMILAR_PRODUCTS = List.of(
+      new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true),
+      new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false),
+      new Product(new ProductId("4"), "Boots", BigDecimal.valueOf(39.99), true)
+  );
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private GetSimilarProductsAsyncUseCase getSimilarProductsAsyncUseCase;
+
+  @Test
+  void shouldResponse200AndSimilarProductsWhenServiceReturnProducts() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_SIMILAR_PRODUCTS));
+
+    var response = performGetSimilarProducts(false);
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS.get(0).getId().value(), document.read("$[0].id"));
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS.get(1).getId().value(), document.read("$[1].id"));
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS.get(2).getId().value(), document.read("$[2].id"));
+  }
+
+  @Test
+  void shouldSendETagAndCacheControlWhenServiceReturnProducts() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_SIMILAR_PRODUCTS));
+
+    var response = performGetSimilarProducts(false);
+
+    assertEquals(SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS).eTag(),
+        response.getResponse().getHeader(HttpHeaders.ETAG));
+    assertEquals("max-age=10, stale-while-revalidate=30",
+        response.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+  }
+
+  @Test
+  void shouldResponse304WithoutBodyWhenIfNoneMatchHasCurrentETag() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_SIMILAR_PRODUCTS));
+    var eTag = SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS).eTag();
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.PARTIAL_RESULTS_HEADER, false)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag);
+    var asyncResult = mockMvc.perform(request).andReturn();
+
+    var response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn();
+
+    assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getResponse().getStatus());
+    assertEquals(eTag, response.getResponse().getHeader(HttpHeaders.ETAG));
+    assertEquals("", response.getResponse().getContentAsString());
+  }
+
+  @Test
+  void shouldResponse404WhenServiceCompletesWithProductNotFoundException() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.failedFuture(
+            new ProductNotFoundException("Product not found")));
+
+    var response = performGetSimilarProducts(false);
+
+    assertEquals(HttpStatus.NOT_FOUND.value(), response.getResponse().getStatus());
+  }
+
+  @Test
+  void shouldResponse500WhenServiceCompletesWithSimilarProductsRetrievalException()
+      throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.failedFuture(
+            new SimilarProductsRetrievalException("Something went wrong")));
+
+    var response = performGetSimilarProducts(false);
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals("Failed to retrieve similar products", document.read("$.title"));
+  }
+
+  @Test
+  void shouldResponse504WhenServiceCompletesWithDeadlineExceededException() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.failedFuture(
+            new DeadlineExceededException("Request deadline exceeded")));
+
+    var response = performGetSimilarProducts(false);
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getResponse().getStatus());
+  }
+
+  @Test
+  void shouldResponse200AndAvailableProductsWithOmittedIdsWhenPartialResultsRequested()
+      throws Exception {
+    when(getSimilarProductsAsyncUseCase.getAvailableSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.completedFuture(new PartialProducts(
+            FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2), List.of(new ProductId("5")))));
+
+    var response = performGetSimilarProducts(true);
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertEquals("5",
+        response.getResponse().getHeader(SimilarProductsController.OMITTED_PRODUCTS_HEADER));
+    assertEquals("no-store", response.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+    assertNull(response.getResponse().getHeader(HttpHeaders.ETAG));
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(2, (Integer) document.read("$.length()"));
+  }
+
+  @Test
+  void shouldSendETagWhenPartialResultsAreComplete() throws Exception {
+    when(getSimilarProductsAsyncUseCase.getAvailableSimilarProducts(eq(FIXED_PRODUCT_ID), any()))
+        .thenReturn(CompletableFuture.completedFuture(
+            new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS, List.of())));
+
+    var response = performGetSimilarProducts(true);
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertNull(response.getResponse().getHeader(SimilarProductsController.OMITTED_PRODUCTS_HEADER));
+    assertEquals(SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS).eTag(),
+        response.getResponse().getHeader(HttpHeaders.ETAG));
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(3, (Integer) document.read("$.length()"));
+  }
+
+  private MvcResult performGetSimilarProducts(boolean partialResults) throws Exception {
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.PARTIAL_RESULTS_HEADER, partialResults)
+        .contentType(MediaType.APPLICATION_JSON);
+    var asyncResult = mockMvc.perform(request).andReturn();
+    return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn();
+  }
+}
@@ -0,0 +1,157 @@
+package com.inditex.similar_products.adapter.in.web.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.inditex.similar_products.application.port.in.GetSimilarProductsUseCase;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import com.inditex.similar_products.domain.model.SimilarProductsOutcome;
+import com.jayway.jsonpath.JsonPath;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@WebMvcTest(value = SimilarProductsBatchController.class,
+    properties = "similar-products.batch.max-size=2")
+@Import(GlobalExceptionHandler.class)
+class SimilarProductsBatchControllerTest {
+
+  private static final String BATCH_URL = "/product/similar:batch";
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_5 = new ProductId("5");
+  private static final List<Product> FIXED_LIST_OF_SIMILAR_PRODUCTS = List.of(
+      new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true),
+      new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false)
+  );
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private GetSimilarProductsUseCase getSimilarProductsUseCase;
+
+  @Test
+  void shouldResponse200WithOutcomePerInputIdWhenBatchIsValid() throws Exception {
+    var outcomes = new LinkedHashMap<ProductId, SimilarProductsOutcome>();
+    outcomes.put(FIXED_PRODUCT_ID_1, SimilarProductsOutcome.found(FIXED_LIST_OF_SIMILAR_PRODUCTS));
+    outcomes.put(FIXED_PRODUCT_ID_5, SimilarProductsOutcome.failed(
+        new ProductNotFoundException("Product 5 was not found")));
+    when(getSimilarProductsUseCase.getSimilarProductsBatch(
+        List.of(FIXED_PRODUCT_ID_1, FIXED_PRODUCT_ID_5))).thenReturn(outcomes);
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":["1","5"]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(200, (Integer) document.read("$.1.status"));
+    assertEquals("2", document.read("$.1.products[0].id"));
+    assertEquals("3", document.read("$.1.products[1].id"));
+    assertEquals(404, (Integer) document.read("$.5.status"));
+    assertEquals("Product Not Found", document.read("$.5.error.title"));
+  }
+
+  @Test
+  void shouldReportSameStatusesAsSingleEndpointWhenProductsFail() throws Exception {
+    var outcomes = new LinkedHashMap<ProductId, SimilarProductsOutcome>();
+    outcomes.put(FIXED_PRODUCT_ID_1, SimilarProductsOutcome.failed(
+        new DeadlineExceededException("Request deadline exceeded while retrieving products 2")));
+    outcomes.put(FIXED_PRODUCT_ID_5, SimilarProductsOutcome.failed(
+        new SimilarProductsRetrievalException("Products 3 could not be retrieved")));
+    when(getSimilarProductsUseCase.getSimilarProductsBatch(
+        List.of(FIXED_PRODUCT_ID_1, FIXED_PRODUCT_ID_5))).thenReturn(outcomes);
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":["1","5"]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(504, (Integer) document.read("$.1.status"));
+    assertEquals("Similar products request timed out", document.read("$.1.error.title"));
+    assertEquals(500, (Integer) document.read("$.5.status"));
+    assertEquals("Products 3 could not be retrieved", document.read("$.5.error.detail"));
+  }
+
+  @Test
+  void shouldResponse504WhenWholeBatchExceedsDeadline() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProductsBatch(List.of(FIXED_PRODUCT_ID_1)))
+        .thenThrow(new DeadlineExceededException("Request deadline exceeded"));
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":["1"]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getResponse().getStatus());
+  }
+
+  @Test
+  void shouldResponse400WhenBatchContainsNullId() throws Exception {
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":["1",null]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), response.getResponse().getStatus());
+    verifyNoInteractions(getSimilarProductsUseCase);
+  }
+
+  @Test
+  void shouldResponse400WhenBatchExceedsMaxSize() throws Exception {
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":["1","2","3"]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), response.getResponse().getStatus());
+  }
+
+  @Test
+  void shouldResponse400WhenBatchIsEmpty() throws Exception {
+    var request = MockMvcRequestBuilders
+        .post(BATCH_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"ids":[]}
+            """);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), response.getResponse().getStatus());
+  }
+}
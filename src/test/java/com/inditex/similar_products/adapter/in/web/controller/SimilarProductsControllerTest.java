@@ -1,20 +1,30 @@
 package com.inditex.similar_products.adapter.in.web.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.cache.SimilarProductsResponse;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.application.context.DeadlineContext;
 import com.inditex.similar_products.application.port.in.GetSimilarProductsUseCase;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
 import com.jayway.jsonpath.JsonPath;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -27,6 +37,7 @@ class SimilarProductsControllerTest {
 
   private static final ProductId FIXED_PRODUCT_ID = new ProductId("1");
   private static final String BASE_URL = "/product";
+  private static final long FIXED_MAX_TIMEOUT = 60000;
   private static final List<Product> FIXED_LIST_OF_SIMILAR_PRODUCTS = List.of(
       new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true),
       new Product(new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false),
@@ -36,6 +47,9 @@ class SimilarProductsControllerTest {
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private ObjectMapper objectMapper;
+
   @MockitoBean
   private GetSimilarProductsUseCase getSimilarProductsUseCase;
 
@@ -67,6 +81,74 @@ class SimilarProductsControllerTest {
     assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS.get(2).getId().value(), document.read("$[2].id"));
   }
 
+  @Test
+  void shouldResponseSameJsonAsJacksonWhenServiceReturnProducts() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(FIXED_LIST_OF_SIMILAR_PRODUCTS);
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getResponse().getContentType());
+    assertArrayEquals(objectMapper.writeValueAsBytes(FIXED_LIST_OF_SIMILAR_PRODUCTS.stream()
+            .map(ProductWebDtoResponseMapper::fromProduct)
+            .toList()),
+        response.getResponse().getContentAsByteArray());
+  }
+
+  @Test
+  void shouldSendETagAndCacheControlWhenServiceReturnProducts() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(FIXED_LIST_OF_SIMILAR_PRODUCTS);
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertEquals(SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS).eTag(),
+        response.getResponse().getHeader(HttpHeaders.ETAG));
+    assertEquals("max-age=10, stale-while-revalidate=30",
+        response.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+  }
+
+  @Test
+  void shouldResponse304WithoutBodyWhenIfNoneMatchHasCurrentETag() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(FIXED_LIST_OF_SIMILAR_PRODUCTS);
+    var eTag = SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS).eTag();
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getResponse().getStatus());
+    assertEquals(eTag, response.getResponse().getHeader(HttpHeaders.ETAG));
+    assertEquals(0, response.getResponse().getContentAsByteArray().length);
+  }
+
+  @Test
+  void shouldResponse200WhenIfNoneMatchHasStaleETag() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(FIXED_LIST_OF_SIMILAR_PRODUCTS);
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(HttpHeaders.IF_NONE_MATCH,
+            SimilarProductsResponse.of(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 1)).eTag())
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(3, (Integer) document.read("$.length()"));
+  }
+
   @Test
   void shouldResponse200AndEmptyListWhenServiceReturnsEmptyList() throws Exception {
     when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
@@ -111,6 +193,56 @@ class SimilarProductsControllerTest {
     assertEquals("Failed to retrieve similar products", document.read("$.title"));
   }
 
+  @Test
+  void shouldResponse504WhenServiceThrowsDeadlineExceededException() throws Exception {
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
+        .thenThrow(new DeadlineExceededException("Request deadline exceeded"));
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.REQUEST_TIMEOUT_HEADER, "500")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals("Similar products request timed out", document.read("$.title"));
+  }
+
+  @Test
+  void shouldResponse400WhenRequestTimeoutIsNotANumber() throws Exception {
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.REQUEST_TIMEOUT_HEADER, "soon")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), response.getResponse().getStatus());
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals("Invalid request timeout", document.read("$.title"));
+    verifyNoInteractions(getSimilarProductsUseCase);
+  }
+
+  @Test
+  void shouldCapDeadlineAtMaxTimeoutWhenRequestTimeoutIsHuge() throws Exception {
+    var remaining = new AtomicReference<Duration>();
+    when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID)).thenAnswer(invocation -> {
+      remaining.set(DeadlineContext.current().orElseThrow().remaining());
+      return FIXED_LIST_OF_SIMILAR_PRODUCTS;
+    });
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.REQUEST_TIMEOUT_HEADER, Long.toString(Long.MAX_VALUE))
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertTrue(remaining.get().compareTo(Duration.ofMillis(FIXED_MAX_TIMEOUT)) <= 0);
+    assertTrue(remaining.get().compareTo(Duration.ZERO) > 0);
+  }
+
   @Test
   void shouldResponse500WhenServiceThrowsRuntimeException() throws Exception {
     when(getSimilarProductsUseCase.getSimilarProducts(FIXED_PRODUCT_ID))
@@ -125,4 +257,101 @@ class SimilarProductsControllerTest {
     var document = JsonPath.parse(response.getResponse().getContentAsString());
     assertEquals("Internal Server Error", document.read("$.title"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldResponse200AndAvailableProductsWithOmittedIdsWhenPartialResultsRequested()
+      throws Exception {
+    when(getSimilarProductsUseCase.getAvailableSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2),
+            List.of(new ProductId("5"), new ProductId("6"))));
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.PARTIAL_RESULTS_HEADER, "true")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertEquals("5,6",
+        response.getResponse().getHeader(SimilarProductsController.OMITTED_PRODUCTS_HEADER));
+    assertEquals("no-store", response.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+    assertNull(response.getResponse().getHeader(HttpHeaders.ETAG));
+    var document = JsonPath.parse(response.getResponse().getContentAsString());
+    assertEquals(2, (Integer) document.read("$.length()"));
+  }
+
+  @Test
+  void shouldNotSendOmittedProductsHeaderWhenPartialResultsAreComplete() throws Exception {
+    when(getSimilarProductsUseCase.getAvailableSimilarProducts(FIXED_PRODUCT_ID))
+        .thenReturn(new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS, List.of()));
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.PARTIAL_RESULTS_HEADER, "true")
+        .contentType(MediaType.APPLICATION_JSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertNull(
+        response.getResponse().getHeader(SimilarProductsController.OMITTED_PRODUCTS_HEADER));
+  }
+
+  @Test
+  void shouldStreamProductsAsNdjsonWhenNdjsonIsAccepted() throws Exception {
+    when(getSimilarProductsUseCase.streamSimilarProducts(FIXED_PRODUCT_ID, false))
+        .thenReturn(onProduct -> {
+          FIXED_LIST_OF_SIMILAR_PRODUCTS.forEach(onProduct);
+          return List.of();
+        });
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .accept(MediaType.APPLICATION_NDJSON);
+
+    var asyncResult = mockMvc.perform(request).andReturn();
+    var response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getResponse().getContentType());
+    var lines = response.getResponse().getContentAsString().lines().toList();
+    assertEquals(3, lines.size());
+    assertEquals("2", JsonPath.parse(lines.get(0)).read("$.id"));
+    assertEquals("4", JsonPath.parse(lines.get(2)).read("$.id"));
+  }
+
+  @Test
+  void shouldStreamProductsAndOmittedIdsAsEventsWhenEventStreamIsAccepted() throws Exception {
+    when(getSimilarProductsUseCase.streamSimilarProducts(FIXED_PRODUCT_ID, true))
+        .thenReturn(onProduct -> {
+          onProduct.accept(FIXED_LIST_OF_SIMILAR_PRODUCTS.get(0));
+          return List.of(new ProductId("5"));
+        });
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .header(SimilarProductsController.ORDERED_STREAM_HEADER, "true")
+        .accept(MediaType.TEXT_EVENT_STREAM);
+
+    var asyncResult = mockMvc.perform(request).andReturn();
+    var response = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andReturn();
+
+    assertEquals(HttpStatus.OK.value(), response.getResponse().getStatus());
+    var content = response.getResponse().getContentAsString();
+    assertTrue(content.startsWith("event: product\ndata: {\"id\":\"2\""));
+    assertTrue(content.endsWith("event: omitted\ndata: [\"5\"]\n\n"));
+  }
+
+  @Test
+  void shouldResponse404BeforeStreamingWhenServiceThrowsProductNotFoundException()
+      throws Exception {
+    when(getSimilarProductsUseCase.streamSimilarProducts(FIXED_PRODUCT_ID, false))
+        .thenThrow(new ProductNotFoundException("Product not found"));
+    var request = MockMvcRequestBuilders
+        .get(BASE_URL + "/{id}/similar", "1")
+        .accept(MediaType.APPLICATION_NDJSON);
+
+    var response = mockMvc.perform(request).andReturn();
+
+    assertEquals(HttpStatus.NOT_FOUND.value(), response.getResponse().getStatus());
+  }
+}
@@ -0,0 +1,100 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProductJsonEncoderTest {
+
+  private static final List<Product> FIXED_LIST_OF_PRODUCTS = List.of(
+      new Product(new ProductId("2"), "Dress", new BigDecimal("19.990"), true),
+      new Product(new ProductId("3"), "Blazer \"Slim\" ñ\n", new BigDecimal("1E+3"), false),
+      new Product(new ProductId("4"), null, null, null)
+  );
+
+  private static final int ITERATIONS = 20_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void encodeShouldWriteSameBytesAsJacksonWhenProductsHaveAnyValues() throws Exception {
+    for (var product : FIXED_LIST_OF_PRODUCTS) {
+      assertArrayEquals(
+          objectMapper.writeValueAsBytes(ProductWebDtoResponseMapper.fromProduct(product)),
+          ProductJsonEncoder.encode(objectMapper, product));
+    }
+  }
+
+  @Test
+  void writeShouldLeaveOutputStreamOpenWhenProductIsWritten() throws Exception {
+    var out = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        fail("Output stream closed by the encoder");
+      }
+    };
+
+    ProductJsonEncoder.write(objectMapper, FIXED_LIST_OF_PRODUCTS.get(0), out);
+    out.write('\n');
+
+    assertEquals("{\"id\":\"2\",\"name\":\"Dress\",\"price\":19.990,\"availability\":true}\n",
+        out.toString());
+  }
+
+  @Test
+  void writeShouldAllocateLessThanDataBindingWhenWritingAProduct() throws Exception {
+    var threadMXBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean allocations
+        && allocations.isThreadAllocatedMemorySupported()
+        && allocations.isThreadAllocatedMemoryEnabled());
+    var product = FIXED_LIST_OF_PRODUCTS.get(0);
+    var out = new DiscardingOutputStream();
+    ThrowingWriter dataBinding = () -> objectMapper.writeValue(out,
+        ProductWebDtoResponseMapper.fromProduct(product));
+    ThrowingWriter streaming = () -> ProductJsonEncoder.write(objectMapper, product, out);
+    allocatedBytesPerProduct(dataBinding);
+    allocatedBytesPerProduct(streaming);
+
+    var dataBindingBytes = allocatedBytesPerProduct(dataBinding);
+    var streamingBytes = allocatedBytesPerProduct(streaming);
+
+    assertTrue(streamingBytes < dataBindingBytes, "streaming encoder allocated " + streamingBytes
+        + " bytes per product, data binding " + dataBindingBytes);
+  }
+
+  private static long allocatedBytesPerProduct(ThrowingWriter writer) throws Exception {
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var before = threadMXBean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      writer.write();
+    }
+    return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+  }
+
+  private static class DiscardingOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThrowingWriter {
+
+    void write() throws Exception;
+  }
+}
@@ -0,0 +1,86 @@
+package com.inditex.similar_products.adapter.in.web.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.adapter.in.web.mapper.ProductWebDtoResponseMapper;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProductJsonFragmentCacheTest {
+
+  private static final List<Product> FIXED_LIST_OF_PRODUCTS = List.of(
+      new Product(new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true),
+      new Product(new ProductId("3"), "Blazer \"Slim\" ñ", new BigDecimal("29.90"), false),
+      new Product(new ProductId("4"), null, null, null)
+  );
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ProductJsonFragmentCache productJsonFragmentCache;
+
+  @BeforeEach
+  void setup() {
+    productJsonFragmentCache = new ProductJsonFragmentCache(objectMapper, 100);
+  }
+
+  @Test
+  void writeArrayShouldWriteSameBytesAsJacksonWhenProductsAreNotCached() throws Exception {
+    assertArrayEquals(jacksonArray(FIXED_LIST_OF_PRODUCTS), writeArray(FIXED_LIST_OF_PRODUCTS));
+  }
+
+  @Test
+  void writeArrayShouldWriteSameBytesAsJacksonWhenProductsAreCached() throws Exception {
+    writeArray(FIXED_LIST_OF_PRODUCTS);
+
+    assertArrayEquals(jacksonArray(FIXED_LIST_OF_PRODUCTS), writeArray(FIXED_LIST_OF_PRODUCTS));
+    assertEquals(FIXED_LIST_OF_PRODUCTS.size(), productJsonFragmentCache.getCache()
+        .estimatedSize());
+  }
+
+  @Test
+  void writeArrayShouldWriteEmptyArrayWhenThereAreNoProducts() throws Exception {
+    assertArrayEquals(jacksonArray(List.of()), writeArray(List.of()));
+  }
+
+  @Test
+  void fragmentShouldReuseEncodingWhenProductIsEqual() {
+    var product = FIXED_LIST_OF_PRODUCTS.get(0);
+
+    var fragment = productJsonFragmentCache.fragment(product);
+
+    assertSame(fragment, productJsonFragmentCache.fragment(
+        new Product(product.getId(), product.getName(), product.getPrice(),
+            product.getIsAvailable())));
+  }
+
+  @Test
+  void fragmentShouldEncodeNewVersionWhenProductChanges() throws Exception {
+    var product = FIXED_LIST_OF_PRODUCTS.get(0);
+    productJsonFragmentCache.fragment(product);
+    var changedProduct = new Product(product.getId(), product.getName(),
+        BigDecimal.valueOf(9.99), product.getIsAvailable());
+
+    var fragment = productJsonFragmentCache.fragment(changedProduct);
+
+    assertArrayEquals(objectMapper.writeValueAsBytes(
+        ProductWebDtoResponseMapper.fromProduct(changedProduct)), fragment);
+  }
+
+  private byte[] writeArray(List<Product> products) throws Exception {
+    var out = new ByteArrayOutputStream();
+    productJsonFragmentCache.writeArray(products, out);
+    return out.toByteArray();
+  }
+
+  private byte[] jacksonArray(List<Product> products) throws Exception {
+    return objectMapper.writeValueAsBytes(products.stream()
+        .map(ProductWebDtoResponseMapper::fromProduct)
+        .toList());
+  }
+}
@@ -0,0 +1,334 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProduct;
+import com.inditex.similar_products.adapter.out.cache.compact.CompactProductIds;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjdk.jol.info.GraphLayout;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductsAdapterTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
+  private static final ProductId FIXED_PRODUCT_ID_3 = new ProductId("3");
+  private static final ProductId FIXED_PRODUCT_ID_4 = new ProductId("4");
+  private static final Map<ProductId, Product> FIXED_PRODUCTS = Map.of(
+      FIXED_PRODUCT_ID_2, new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(19.99), true),
+      FIXED_PRODUCT_ID_3, new Product(FIXED_PRODUCT_ID_3, "Blazer", BigDecimal.valueOf(29.99), false),
+      FIXED_PRODUCT_ID_4, new Product(FIXED_PRODUCT_ID_4, "Boots", BigDecimal.valueOf(39.99), true)
+  );
+
+  private static final int CATALOGUE_SIZE = 100_000;
+
+  @Mock
+  private GetProductsByIdsPort delegate;
+
+  @Mock
+  private GetProductsByIdsPort refreshDelegate;
+
+  private CachingProductsAdapter cachingProductsAdapter;
+
+  @BeforeEach
+  void setup() {
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, Caffeine.newBuilder());
+  }
+
+  @Test
+  void getProductsShouldReturnProductsInRequestedOrderWhenDelegateReturnsAsExpected() {
+    mockDelegateWithFixedProducts();
+
+    var result = cachingProductsAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_4, FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+
+    assertEquals(3, result.size());
+    assertEquals("4", result.get(0).getId().value());
+    assertEquals("2", result.get(1).getId().value());
+    assertEquals("3", result.get(2).getId().value());
+  }
+
+  @Test
+  void getProductsShouldOnlyRequestMissingProductsToDelegate() {
+    mockDelegateWithFixedProducts();
+
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+    var result = cachingProductsAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4));
+
+    assertEquals(3, result.size());
+    verify(delegate).getProducts(List.of(FIXED_PRODUCT_ID_4));
+    verify(delegate, times(2)).getProducts(anyList());
+  }
+
+  @Test
+  void getProductsShouldNotCallDelegateWhenInputListIsEmpty() {
+    var result = cachingProductsAdapter.getProducts(List.of());
+
+    assertTrue(result.isEmpty());
+    verify(delegate, times(0)).getProducts(anyList());
+  }
+
+  @Test
+  void getProductsShouldPropagateExceptionAndCacheNothingWhenDelegateThrowsIt() {
+    when(delegate.getProducts(anyList()))
+        .thenThrow(new SimilarProductsRetrievalException("Something went wrong"));
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2)));
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2)));
+    verify(delegate, times(2)).getProducts(anyList());
+  }
+
+  @Test
+  void getProductsShouldServeStaleProductAndRefreshItInBackgroundWhenWithinStaleWindow() {
+    var ticker = new AtomicLong();
+    var pendingRefreshes = new ArrayList<Runnable>();
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, Caffeine.newBuilder()
+        .ticker(ticker::get)
+        .executor(pendingRefreshes::add)
+        .refreshAfterWrite(Duration.ofSeconds(1))
+        .expireAfterWrite(Duration.ofSeconds(10)));
+    var refreshedProduct = new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(9.99),
+        true);
+    when(delegate.getProducts(List.of(FIXED_PRODUCT_ID_2)))
+        .thenReturn(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)))
+        .thenReturn(List.of(refreshedProduct));
+
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+    ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+    var stale = cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+    verify(delegate, times(1)).getProducts(anyList());
+    List.copyOf(pendingRefreshes).forEach(Runnable::run);
+    var refreshed = cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+
+    assertEquals(BigDecimal.valueOf(19.99), stale.get(0).getPrice());
+    assertEquals(BigDecimal.valueOf(9.99), refreshed.get(0).getPrice());
+    verify(delegate, times(2)).getProducts(anyList());
+  }
+
+  @Test
+  void getProductsShouldReloadStaleProductFromRefreshDelegateWhenWithinStaleWindow() {
+    var ticker = new AtomicLong();
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, refreshDelegate,
+        Caffeine.newBuilder()
+            .ticker(ticker::get)
+            .executor(Runnable::run)
+            .refreshAfterWrite(Duration.ofSeconds(1))
+            .expireAfterWrite(Duration.ofSeconds(10)));
+    var refreshedProduct = new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(9.99),
+        true);
+    when(delegate.getProducts(List.of(FIXED_PRODUCT_ID_2)))
+        .thenReturn(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)));
+    when(refreshDelegate.getProducts(List.of(FIXED_PRODUCT_ID_2)))
+        .thenReturn(List.of(refreshedProduct));
+
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+    ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+    var refreshed = cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+
+    assertEquals(refreshedProduct, refreshed.get(0));
+    verify(delegate, times(1)).getProducts(anyList());
+    verify(refreshDelegate, times(1)).getProducts(anyList());
+  }
+
+  @Test
+  void refreshShouldLoadFromRefreshDelegateWhenOneIsGiven() {
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, refreshDelegate,
+        Caffeine.newBuilder());
+    when(refreshDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3)))
+        .thenReturn(new PartialProducts(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)),
+            List.of(FIXED_PRODUCT_ID_3)));
+
+    var omitted = cachingProductsAdapter.refresh(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), omitted);
+    assertEquals(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2),
+        cachingProductsAdapter.getCachedProduct(FIXED_PRODUCT_ID_2).orElseThrow());
+    verify(delegate, times(0)).getAvailableProducts(anyList());
+  }
+
+  @Test
+  void getAvailableProductsShouldCacheRetrievedProductsAndReportOmittedOnes() {
+    when(delegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3)))
+        .thenReturn(new PartialProducts(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)),
+            List.of(FIXED_PRODUCT_ID_3)));
+    when(delegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_3)))
+        .thenReturn(new PartialProducts(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3)),
+            List.of()));
+
+    var first = cachingProductsAdapter.getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+    var second = cachingProductsAdapter.getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+
+    assertEquals(1, first.products().size());
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), first.omittedProductIds());
+    assertEquals(2, second.products().size());
+    assertEquals("2", second.products().get(0).getId().value());
+    assertEquals("3", second.products().get(1).getId().value());
+    assertTrue(second.omittedProductIds().isEmpty());
+  }
+
+  @Test
+  void streamAvailableProductsShouldInterleaveCachedAndLoadedProductsWhenOrdered() {
+    mockDelegateWithFixedProducts();
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_3));
+    var productId5 = new ProductId("5");
+    when(delegate.streamAvailableProducts(eq(List.of(FIXED_PRODUCT_ID_2, productId5,
+        FIXED_PRODUCT_ID_4)), eq(true), any())).thenAnswer(invocation -> {
+          Consumer<Product> onProduct = invocation.getArgument(2);
+          onProduct.accept(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2));
+          onProduct.accept(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4));
+          return List.of(productId5);
+        });
+    var emitted = new ArrayList<String>();
+
+    var omitted = cachingProductsAdapter.streamAvailableProducts(List.of(FIXED_PRODUCT_ID_2,
+            FIXED_PRODUCT_ID_3, productId5, FIXED_PRODUCT_ID_4), true,
+        product -> emitted.add(product.getId().value()));
+
+    assertEquals(List.of("2", "3", "4"), emitted);
+    assertEquals(List.of(productId5), omitted);
+  }
+
+  @Test
+  void streamAvailableProductsShouldEmitCachedProductsFirstAndCacheLoadedOnesWhenNotOrdered() {
+    mockDelegateWithFixedProducts();
+    cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_4));
+    when(delegate.streamAvailableProducts(eq(List.of(FIXED_PRODUCT_ID_2)), eq(false), any()))
+        .thenAnswer(invocation -> {
+          Consumer<Product> onProduct = invocation.getArgument(2);
+          onProduct.accept(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2));
+          return List.of();
+        });
+    var emitted = new ArrayList<String>();
+
+    cachingProductsAdapter.streamAvailableProducts(List.of(FIXED_PRODUCT_ID_2,
+        FIXED_PRODUCT_ID_4), false, product -> emitted.add(product.getId().value()));
+    var cached = cachingProductsAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2));
+
+    assertEquals(List.of("4", "2"), emitted);
+    assertEquals("2", cached.get(0).getId().value());
+    verify(delegate, times(1)).getProducts(anyList());
+  }
+
+  @Test
+  void getCachedProductShouldReturnOnlyCachedProductsWithoutLoadingThem() {
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, Caffeine.newBuilder()
+        .recordStats());
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_2,
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)));
+
+    assertEquals(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2),
+        cachingProductsAdapter.getCachedProduct(FIXED_PRODUCT_ID_2).orElseThrow());
+    assertTrue(cachingProductsAdapter.getCachedProduct(FIXED_PRODUCT_ID_3).isEmpty());
+    var registry = new SimpleMeterRegistry();
+    cachingProductsAdapter.bindTo(registry);
+    assertEquals(0, registry.get("cache.gets").tag("cache", "products").tag("result", "hit")
+        .functionCounter().count());
+    assertEquals(0, registry.get("cache.gets").tag("cache", "products").tag("result", "miss")
+        .functionCounter().count());
+    verify(delegate, times(0)).getProducts(anyList());
+  }
+
+  @Test
+  void changeListenerShouldBeNotifiedWhenCachedProductIsReplacedByNewVersion() {
+    var changedProductIds = new ArrayList<ProductId>();
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, Caffeine.newBuilder()
+        .executor(Runnable::run));
+    cachingProductsAdapter.addChangeListener(changedProductIds::add);
+    var product = FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2);
+
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_2, product));
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_2, new Product(FIXED_PRODUCT_ID_2,
+        product.getName(), product.getPrice(), product.getIsAvailable())));
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_2, new Product(FIXED_PRODUCT_ID_2,
+        product.getName(), BigDecimal.valueOf(9.99), product.getIsAvailable())));
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_2), changedProductIds);
+  }
+
+  @Test
+  void changeListenerShouldBeNotifiedWhenCachedProductExpires() {
+    var changedProductIds = new ArrayList<ProductId>();
+    var ticker = new AtomicLong();
+    cachingProductsAdapter = new CachingProductsAdapter(delegate, Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(1))
+        .ticker(ticker::get)
+        .executor(Runnable::run));
+    cachingProductsAdapter.addChangeListener(changedProductIds::add);
+
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_3,
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3)));
+    ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+    cachingProductsAdapter.restore(Map.of(FIXED_PRODUCT_ID_2,
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)));
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), changedProductIds);
+  }
+
+  @Test
+  void compactProductsShouldRetainLessHeapPerProductThanDomainObjectsWhenCatalogueIsCached(
+      TestReporter testReporter) {
+    var catalogue = new HashMap<ProductId, Product>();
+    for (int i = 0; i < CATALOGUE_SIZE; i++) {
+      var productId = new ProductId(String.valueOf(i));
+      catalogue.put(productId, new Product(productId, "Product " + i,
+          BigDecimal.valueOf(1999 + i, 2), i % 2 == 0));
+    }
+    var domainCache = Caffeine.newBuilder().<ProductId, Product>build();
+    var compactCache = Caffeine.newBuilder().<Object, CompactProduct>build();
+
+    domainCache.putAll(catalogue);
+    catalogue.forEach((productId, product) -> compactCache.put(CompactProductIds.key(productId),
+        CompactProduct.of(product)));
+
+    var domainBytes = retainedBytesPerProduct(domainCache.asMap());
+    var compactBytes = retainedBytesPerProduct(compactCache.asMap());
+    testReporter.publishEntry("domainBytesPerCachedProduct", String.valueOf(domainBytes));
+    testReporter.publishEntry("compactBytesPerCachedProduct", String.valueOf(compactBytes));
+    assertEquals(CATALOGUE_SIZE, compactCache.estimatedSize());
+    assertTrue(compactBytes < domainBytes, "compact cache retained " + compactBytes
+        + " bytes per product, domain objects " + domainBytes);
+  }
+
+  private static long retainedBytesPerProduct(Map<?, ?> entries) {
+    return GraphLayout.parseInstance(entries.keySet().toArray(), entries.values().toArray())
+        .totalSize() / CATALOGUE_SIZE;
+  }
+
+  private void mockDelegateWithFixedProducts() {
+    when(delegate.getProducts(anyList())).thenAnswer(invocation -> {
+      List<ProductId> ids = invocation.getArgument(0);
+      return ids.stream().map(FIXED_PRODUCTS::get).toList();
+    });
+  }
+}
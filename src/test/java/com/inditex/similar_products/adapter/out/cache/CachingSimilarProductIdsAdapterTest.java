@@ -0,0 +1,156 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.ProductId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSimilarProductIdsAdapterTest {
+
+  private static final ProductId FIXED_PRODUCT_ID = new ProductId("1");
+  private static final List<ProductId> FIXED_LIST_OF_PRODUCT_IDS = List.of(
+      new ProductId("2"), new ProductId("3"), new ProductId("4")
+  );
+
+  @Mock
+  private GetSimilarProductIdsPort delegate;
+
+  private CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter;
+
+  @BeforeEach
+  void setup() {
+    cachingSimilarProductIdsAdapter = new CachingSimilarProductIdsAdapter(delegate,
+        Caffeine.newBuilder(), Caffeine.newBuilder());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldCallDelegateOnlyOnceWhenIdsAreCached() {
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(FIXED_LIST_OF_PRODUCT_IDS);
+
+    var first = cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+    var second = cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+
+    assertEquals(FIXED_LIST_OF_PRODUCT_IDS, first);
+    assertEquals(FIXED_LIST_OF_PRODUCT_IDS, second);
+    verify(delegate, times(1)).getSimilarProductIds(FIXED_PRODUCT_ID);
+  }
+
+  @Test
+  void bindToShouldPublishGetsOfSimilarIdsAndNotFoundCachesWhenIdsAreCached() {
+    cachingSimilarProductIdsAdapter = new CachingSimilarProductIdsAdapter(delegate,
+        Caffeine.newBuilder().recordStats(), Caffeine.newBuilder().recordStats());
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(FIXED_LIST_OF_PRODUCT_IDS);
+    var registry = new SimpleMeterRegistry();
+    cachingSimilarProductIdsAdapter.bindTo(registry);
+
+    cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+    cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+
+    assertEquals(1, registry.get("cache.gets").tag("cache", "similar-ids").tag("result", "hit")
+        .functionCounter().count());
+    assertEquals(1, registry.get("cache.gets").tag("cache", "similar-ids").tag("result", "miss")
+        .functionCounter().count());
+    assertEquals(2, registry.get("cache.gets").tag("cache", "not-found").tag("result", "miss")
+        .functionCounter().count());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldCacheProductNotFoundExceptionWhenDelegateThrowsIt() {
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID)).thenThrow(
+        new ProductNotFoundException("Product not found"));
+
+    assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+    assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+    verify(delegate, times(1)).getSimilarProductIds(FIXED_PRODUCT_ID);
+  }
+
+  @Test
+  void getSimilarProductIdsShouldThrowSameExceptionWithoutStackTraceWhenNotFoundIsCached() {
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID)).thenThrow(
+        new ProductNotFoundException("Product not found"));
+    assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+
+    var first = assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+    var second = assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+
+    assertSame(first, second);
+    assertEquals("Product 1 was not found", first.getMessage());
+    assertEquals(0, first.getStackTrace().length);
+  }
+
+  @Test
+  void getSimilarProductIdsShouldNotCacheOtherErrorsWhenDelegateThrowsThem() {
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID)).thenThrow(
+        new SimilarProductsRetrievalException("Something went wrong"));
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID));
+    verify(delegate, times(2)).getSimilarProductIds(FIXED_PRODUCT_ID);
+  }
+
+  @Test
+  void refreshShouldReplaceCachedIdsWhenDelegateReturnsNewOnes() {
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID))
+        .thenReturn(List.of(new ProductId("2")), FIXED_LIST_OF_PRODUCT_IDS);
+
+    cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+    var refreshed = cachingSimilarProductIdsAdapter.refresh(FIXED_PRODUCT_ID);
+    var result = cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+
+    assertEquals(FIXED_LIST_OF_PRODUCT_IDS, refreshed);
+    assertEquals(FIXED_LIST_OF_PRODUCT_IDS, result);
+    verify(delegate, times(2)).getSimilarProductIds(FIXED_PRODUCT_ID);
+  }
+
+  @Test
+  void refreshShouldLoadFromRefreshDelegateWhenOneIsGiven() {
+    GetSimilarProductIdsPort refreshDelegate = productId -> FIXED_LIST_OF_PRODUCT_IDS;
+    cachingSimilarProductIdsAdapter = new CachingSimilarProductIdsAdapter(delegate,
+        refreshDelegate, Caffeine.newBuilder(), Caffeine.newBuilder());
+
+    cachingSimilarProductIdsAdapter.refresh(FIXED_PRODUCT_ID);
+    var result = cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+
+    assertEquals(FIXED_LIST_OF_PRODUCT_IDS, result);
+    verify(delegate, times(0)).getSimilarProductIds(FIXED_PRODUCT_ID);
+  }
+
+  @Test
+  void changeListenerShouldBeNotifiedOnlyWhenRefreshedIdsAreDifferent() {
+    var changedProductIds = new ArrayList<ProductId>();
+    cachingSimilarProductIdsAdapter = new CachingSimilarProductIdsAdapter(delegate,
+        Caffeine.newBuilder().executor(Runnable::run), Caffeine.newBuilder());
+    cachingSimilarProductIdsAdapter.addChangeListener(changedProductIds::add);
+    when(delegate.getSimilarProductIds(FIXED_PRODUCT_ID))
+        .thenReturn(List.of(new ProductId("2")), List.of(new ProductId("2")),
+            FIXED_LIST_OF_PRODUCT_IDS);
+
+    cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID);
+    cachingSimilarProductIdsAdapter.refresh(FIXED_PRODUCT_ID);
+    cachingSimilarProductIdsAdapter.refresh(FIXED_PRODUCT_ID);
+
+    assertEquals(List.of(FIXED_PRODUCT_ID), changedProductIds);
+  }
+}
@@ -0,0 +1,132 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheWarmerTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_5 = new ProductId("5");
+  private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
+  private static final ProductId FIXED_PRODUCT_ID_3 = new ProductId("3");
+  private static final List<Product> FIXED_LIST_OF_PRODUCTS = List.of(
+      new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(19.99), true),
+      new Product(FIXED_PRODUCT_ID_3, "Blazer", BigDecimal.valueOf(29.99), false)
+  );
+  private static final Duration FIXED_TIMEOUT = Duration.ofSeconds(5);
+
+  @Mock
+  private GetSimilarProductIdsPort similarProductIdsDelegate;
+
+  @Mock
+  private GetProductsByIdsPort productsDelegate;
+
+  private ExecutorService executor;
+
+  private CachingSimilarProductIdsAdapter cachingSimilarProductIdsAdapter;
+
+  private CachingProductsAdapter cachingProductsAdapter;
+
+  @BeforeEach
+  void setup() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    cachingSimilarProductIdsAdapter = new CachingSimilarProductIdsAdapter(
+        similarProductIdsDelegate, Caffeine.newBuilder(), Caffeine.newBuilder());
+    cachingProductsAdapter = new CachingProductsAdapter(productsDelegate, Caffeine.newBuilder());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void warmUpShouldLoadSimilarIdsAndProductsOfHotProductsWhenProductApiAnswers() {
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+    when(productsDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3)))
+        .thenReturn(new PartialProducts(FIXED_LIST_OF_PRODUCTS, List.of()));
+    var warmer = new ProductCacheWarmer(cachingSimilarProductIdsAdapter, cachingProductsAdapter,
+        executor, List.of(FIXED_PRODUCT_ID_1), 10);
+
+    var result = warmer.warmUp(FIXED_TIMEOUT);
+
+    assertEquals(new ProductCacheWarmer.WarmUpResult(1, 2, 0, false), result);
+    assertEquals(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3),
+        cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1));
+    assertEquals(FIXED_LIST_OF_PRODUCTS, cachingProductsAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3)));
+    verify(similarProductIdsDelegate, times(1)).getSimilarProductIds(FIXED_PRODUCT_ID_1);
+    verify(productsDelegate, times(1)).getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+  }
+
+  @Test
+  void warmUpShouldFetchSharedProductsOnceAndInChunksOfParallelism() {
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3));
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_5))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_3));
+    when(productsDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_2)))
+        .thenReturn(new PartialProducts(FIXED_LIST_OF_PRODUCTS.subList(0, 1), List.of()));
+    when(productsDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_3)))
+        .thenReturn(new PartialProducts(List.of(), List.of(FIXED_PRODUCT_ID_3)));
+    var warmer = new ProductCacheWarmer(cachingSimilarProductIdsAdapter, cachingProductsAdapter,
+        executor, List.of(FIXED_PRODUCT_ID_1, FIXED_PRODUCT_ID_5), 1);
+
+    var result = warmer.warmUp(FIXED_TIMEOUT);
+
+    assertEquals(new ProductCacheWarmer.WarmUpResult(2, 1, 1, false), result);
+    verify(productsDelegate, times(1)).getAvailableProducts(List.of(FIXED_PRODUCT_ID_3));
+  }
+
+  @Test
+  void warmUpShouldCountFailureAndCacheNotFoundWhenHotProductDoesNotExist() {
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenThrow(new ProductNotFoundException("Product 1 was not found"));
+    var warmer = new ProductCacheWarmer(cachingSimilarProductIdsAdapter, cachingProductsAdapter,
+        executor, List.of(FIXED_PRODUCT_ID_1), 10);
+
+    var result = warmer.warmUp(FIXED_TIMEOUT);
+
+    assertEquals(new ProductCacheWarmer.WarmUpResult(1, 0, 1, false), result);
+    assertThrows(ProductNotFoundException.class,
+        () -> cachingSimilarProductIdsAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1));
+    verify(similarProductIdsDelegate, times(1)).getSimilarProductIds(FIXED_PRODUCT_ID_1);
+    verifyNoInteractions(productsDelegate);
+  }
+
+  @Test
+  void warmUpShouldDoNothingWhenThereAreNoHotProducts() {
+    var warmer = new ProductCacheWarmer(cachingSimilarProductIdsAdapter, cachingProductsAdapter,
+        executor, List.of(), 10);
+
+    var result = warmer.warmUp(FIXED_TIMEOUT);
+
+    assertEquals(new ProductCacheWarmer.WarmUpResult(0, 0, 0, false), result);
+    verifyNoInteractions(similarProductIdsDelegate, productsDelegate);
+  }
+}
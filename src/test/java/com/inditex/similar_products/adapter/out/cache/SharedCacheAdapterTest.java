@@ -0,0 +1,286 @@
+package com.inditex.similar_products.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.similar_products.adapter.out.cache.SharedCacheAdapter.SharedCacheAdapterConfig;
+import com.inditex.similar_products.adapter.out.cache.shared.InMemorySharedCache;
+import com.inditex.similar_products.adapter.out.cache.shared.SharedCacheCodec;
+import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SharedCacheAdapterTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
+  private static final ProductId FIXED_PRODUCT_ID_3 = new ProductId("3");
+  private static final ProductId FIXED_PRODUCT_ID_4 = new ProductId("4");
+  private static final Map<ProductId, Product> FIXED_PRODUCTS = Map.of(
+      FIXED_PRODUCT_ID_2, new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(19.99),
+          true),
+      FIXED_PRODUCT_ID_3, new Product(FIXED_PRODUCT_ID_3, "Blazer", BigDecimal.valueOf(29.99),
+          false),
+      FIXED_PRODUCT_ID_4, new Product(FIXED_PRODUCT_ID_4, "Boots", BigDecimal.valueOf(39.99),
+          true)
+  );
+  private static final SharedCacheAdapterConfig FIXED_CONFIG = new SharedCacheAdapterConfig(
+      "test", Duration.ofSeconds(60), Duration.ofSeconds(30), 10);
+
+  @Mock
+  private GetProductsByIdsPort productsDelegate;
+
+  @Mock
+  private GetSimilarProductIdsPort similarProductIdsDelegate;
+
+  private InMemorySharedCache sharedCache;
+
+  private SharedCacheAdapter sharedCacheAdapter;
+
+  @BeforeEach
+  void setup() {
+    sharedCache = new InMemorySharedCache();
+    sharedCacheAdapter = newSharedCacheAdapter(Runnable::run, FIXED_CONFIG);
+  }
+
+  @Test
+  void getProductsShouldNotCallDelegateWhenAllProductsAreShared() {
+    shareProducts(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3);
+
+    var result = sharedCacheAdapter.getProducts(List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_2));
+
+    assertEquals(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3),
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2)), result);
+    assertEquals(List.of("getAll"), sharedCache.calls());
+    assertEquals(2, sharedCacheAdapter.productHits());
+    verify(productsDelegate, never()).getProducts(anyList());
+  }
+
+  @Test
+  void getProductsShouldLoadOnlyMissingProductsAndWriteThemBehindWhenSomeAreNotShared() {
+    shareProducts(FIXED_PRODUCT_ID_2);
+    when(productsDelegate.getProducts(List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4)))
+        .thenReturn(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3),
+            FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4)));
+
+    var result = sharedCacheAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4));
+
+    assertEquals(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2),
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3), FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4)), result);
+    assertEquals(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4),
+        SharedCacheCodec.decodeProduct(sharedCache.get("test:product:4")));
+    assertEquals(Duration.ofSeconds(60), sharedCache.ttl("test:product:4"));
+    assertEquals(List.of("getAll", "putAll"), sharedCache.calls());
+    assertEquals(1, sharedCacheAdapter.productHits());
+    assertEquals(2, sharedCacheAdapter.productMisses());
+    assertEquals(2, sharedCacheAdapter.writes());
+  }
+
+  @Test
+  void getAvailableProductsShouldOmitProductsThatDelegateOmitsWhenTheyAreNotShared() {
+    shareProducts(FIXED_PRODUCT_ID_2);
+    when(productsDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4)))
+        .thenReturn(new PartialProducts(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4)),
+            List.of(FIXED_PRODUCT_ID_3)));
+
+    var result = sharedCacheAdapter.getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4));
+
+    assertEquals(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2),
+        FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4)), result.products());
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), result.omittedProductIds());
+    assertNull(sharedCache.get("test:product:3"));
+    assertNotNull(sharedCache.get("test:product:4"));
+  }
+
+  @Test
+  void getAvailableProductsShouldCallDelegateWhenSharedCacheIsDown() {
+    sharedCache.down();
+    var productIds = List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3);
+    when(productsDelegate.getAvailableProducts(productIds)).thenReturn(new PartialProducts(
+        List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_2), FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3)),
+        List.of()));
+
+    var result = sharedCacheAdapter.getAvailableProducts(productIds);
+
+    assertEquals(2, result.products().size());
+    assertEquals(2, sharedCacheAdapter.errors());
+    assertEquals(0, sharedCacheAdapter.writes());
+  }
+
+  @Test
+  void streamAvailableProductsShouldEmitInRequestedOrderWhenOrderedAndSomeAreShared() {
+    shareProducts(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_4);
+    when(productsDelegate.streamAvailableProducts(eq(List.of(FIXED_PRODUCT_ID_3)), eq(true),
+        any())).thenAnswer(invocation -> {
+          Consumer<Product> onProduct = invocation.getArgument(2);
+          onProduct.accept(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_3));
+          return List.of();
+        });
+    var emitted = new ArrayList<String>();
+
+    var omitted = sharedCacheAdapter.streamAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4), true,
+        product -> emitted.add(product.getId().value()));
+
+    assertEquals(List.of("2", "3", "4"), emitted);
+    assertEquals(List.of(), omitted);
+    assertNotNull(sharedCache.get("test:product:3"));
+  }
+
+  @Test
+  void streamAvailableProductsShouldNotCallDelegateWhenAllProductsAreShared() {
+    shareProducts(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3);
+    var emitted = new ArrayList<String>();
+
+    sharedCacheAdapter.streamAvailableProducts(List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_2),
+        false, product -> emitted.add(product.getId().value()));
+
+    assertEquals(List.of("3", "2"), emitted);
+    verify(productsDelegate, never()).streamAvailableProducts(anyList(), anyBoolean(), any());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldServeOtherInstanceWhenOneInstanceLoadedThem() {
+    var similarProductIds = List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3);
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenReturn(similarProductIds);
+    sharedCacheAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1);
+    GetSimilarProductIdsPort otherInstanceDelegate = productId -> fail("Product API called");
+    var otherInstance = new SharedCacheAdapter(productsDelegate, otherInstanceDelegate,
+        sharedCache, Runnable::run, FIXED_CONFIG);
+
+    var result = otherInstance.getSimilarProductIds(FIXED_PRODUCT_ID_1);
+
+    assertEquals(similarProductIds, result);
+    assertEquals(Duration.ofSeconds(30), sharedCache.ttl("test:similar-ids:1"));
+    assertEquals(1, sharedCacheAdapter.similarProductIdsMisses());
+    assertEquals(1, otherInstance.similarProductIdsHits());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldNotShareAnythingWhenDelegateThrowsProductNotFoundException() {
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenThrow(new ProductNotFoundException("Product 1 was not found"));
+
+    assertThrows(ProductNotFoundException.class,
+        () -> sharedCacheAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1));
+    assertEquals(List.of("getAll"), sharedCache.calls());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldCallDelegateWhenSharedValueIsUnreadable() {
+    sharedCache.set("test:similar-ids:1", new byte[]{42});
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_2));
+
+    var result = sharedCacheAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1);
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_2), result);
+    assertEquals(List.of(FIXED_PRODUCT_ID_2),
+        SharedCacheCodec.decodeProductIds(sharedCache.get("test:similar-ids:1")));
+  }
+
+  @Test
+  void refreshingGetProductsShouldLoadFromDelegateAndWriteThroughWhenProductIsShared() {
+    shareProducts(FIXED_PRODUCT_ID_2);
+    var refreshedProduct = new Product(FIXED_PRODUCT_ID_2, "Dress", BigDecimal.valueOf(9.99),
+        true);
+    when(productsDelegate.getProducts(List.of(FIXED_PRODUCT_ID_2)))
+        .thenReturn(List.of(refreshedProduct));
+
+    var result = sharedCacheAdapter.refreshing().getProducts(List.of(FIXED_PRODUCT_ID_2));
+
+    assertEquals(List.of(refreshedProduct), result);
+    assertEquals(refreshedProduct,
+        SharedCacheCodec.decodeProduct(sharedCache.get("test:product:2")));
+    assertEquals(List.of("putAll"), sharedCache.calls());
+    assertEquals(0, sharedCacheAdapter.productHits());
+    assertEquals(1, sharedCacheAdapter.writes());
+  }
+
+  @Test
+  void refreshingGetAvailableProductsShouldWriteThroughOnlyLoadedProducts() {
+    when(productsDelegate.getAvailableProducts(List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4)))
+        .thenReturn(new PartialProducts(List.of(FIXED_PRODUCTS.get(FIXED_PRODUCT_ID_4)),
+            List.of(FIXED_PRODUCT_ID_3)));
+
+    var result = sharedCacheAdapter.refreshing().getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_3, FIXED_PRODUCT_ID_4));
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), result.omittedProductIds());
+    assertNull(sharedCache.get("test:product:3"));
+    assertNotNull(sharedCache.get("test:product:4"));
+    assertEquals(List.of("putAll"), sharedCache.calls());
+  }
+
+  @Test
+  void refreshingGetSimilarProductIdsShouldLoadFromDelegateAndWriteThroughWhenIdsAreShared() {
+    sharedCache.set("test:similar-ids:1",
+        SharedCacheCodec.encodeProductIds(List.of(FIXED_PRODUCT_ID_2)));
+    when(similarProductIdsDelegate.getSimilarProductIds(FIXED_PRODUCT_ID_1))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_3));
+
+    var result = sharedCacheAdapter.refreshing().getSimilarProductIds(FIXED_PRODUCT_ID_1);
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_3), result);
+    assertEquals(List.of(FIXED_PRODUCT_ID_3),
+        SharedCacheCodec.decodeProductIds(sharedCache.get("test:similar-ids:1")));
+    assertEquals(List.of("putAll"), sharedCache.calls());
+    assertEquals(0, sharedCacheAdapter.similarProductIdsHits());
+  }
+
+  @Test
+  void writeBehindShouldDropWritesWhenTooManyArePending() {
+    var pendingWrites = new ArrayList<Runnable>();
+    sharedCacheAdapter = newSharedCacheAdapter(pendingWrites::add,
+        new SharedCacheAdapterConfig("test", Duration.ofSeconds(60), Duration.ofSeconds(30), 1));
+    when(similarProductIdsDelegate.getSimilarProductIds(any()))
+        .thenReturn(List.of(FIXED_PRODUCT_ID_2));
+
+    sharedCacheAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1);
+    sharedCacheAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_3);
+
+    assertEquals(1, pendingWrites.size());
+    assertEquals(1, sharedCacheAdapter.droppedWrites());
+    pendingWrites.get(0).run();
+    assertEquals(1, sharedCacheAdapter.writes());
+    assertNotNull(sharedCache.get("test:similar-ids:1"));
+  }
+
+  private SharedCacheAdapter newSharedCacheAdapter(Executor executor,
+      SharedCacheAdapterConfig config) {
+    return new SharedCacheAdapter(productsDelegate, similarProductIdsDelegate, sharedCache,
+        executor, config);
+  }
+
+  private void shareProducts(ProductId... productIds) {
+    for (var productId : productIds) {
+      sharedCache.set("test:product:" + productId.value(),
+          SharedCacheCodec.encodeProduct(FIXED_PRODUCTS.get(productId)));
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.inditex.similar_products.adapter.out.cache.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProductBinaryCodecTest {
+
+  private static final List<Product> FIXED_PRODUCTS = List.of(
+      new Product(new ProductId("2"), "Dress ñ", new BigDecimal("19.990"), true),
+      new Product(new ProductId("3"), null, null, null),
+      new Product(new ProductId("4"), "Boots", new BigDecimal("-1E+3"), false));
+
+  private static final List<ProductId> FIXED_PRODUCT_IDS = List.of(new ProductId("2"),
+      new ProductId("sku-3"));
+
+  @Test
+  void readProductShouldReturnEqualProductsInOrderWhenTheyWereWrittenInSequence()
+      throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    var out = new DataOutputStream(bytes);
+    for (var product : FIXED_PRODUCTS) {
+      ProductBinaryCodec.writeProduct(out, product);
+    }
+    var buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+    for (var product : FIXED_PRODUCTS) {
+      assertEquals(product, ProductBinaryCodec.readProduct(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void readProductIdsShouldReturnEqualIdsWhenTheyWereWritten() throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    var out = new DataOutputStream(bytes);
+    ProductBinaryCodec.writeProductIds(out, FIXED_PRODUCT_IDS);
+    ProductBinaryCodec.writeProductIds(out, List.of());
+    var buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+    assertEquals(FIXED_PRODUCT_IDS, ProductBinaryCodec.readProductIds(buffer));
+    assertEquals(List.of(), ProductBinaryCodec.readProductIds(buffer));
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void readProductIdShouldThrowIllegalArgumentExceptionWhenLengthExceedsRemainingBytes() {
+    var buffer = ByteBuffer.allocate(Integer.BYTES + 2).putInt(3).put((byte) 'a').put((byte) 'b')
+        .flip();
+
+    assertThrows(IllegalArgumentException.class, () -> ProductBinaryCodec.readProductId(buffer));
+  }
+
+  @Test
+  void readProductIdsShouldThrowIllegalArgumentExceptionWhenCountIsNegative() {
+    var buffer = ByteBuffer.allocate(Integer.BYTES).putInt(-1).flip();
+
+    assertThrows(IllegalArgumentException.class, () -> ProductBinaryCodec.readProductIds(buffer));
+  }
+}
@@ -0,0 +1,85 @@
+package com.inditex.similar_products.adapter.out.cache.compact;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.model.ProductId;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompactProductIdsTest {
+
+  @Test
+  void keyShouldReturnLongWhenIdIsPlainNumber() {
+    assertEquals(2L, CompactProductIds.key(new ProductId("2")));
+    assertEquals(0L, CompactProductIds.key(new ProductId("0")));
+    assertEquals(123456789012345678L, CompactProductIds.key(new ProductId("123456789012345678")));
+  }
+
+  @Test
+  void keyShouldReturnInternedStringWhenIdDoesNotPrintBackAsNumber() {
+    var ids = List.of("02", "-2", "+2", "2a", "", "1234567890123456789");
+
+    for (var id : ids) {
+      var key = CompactProductIds.key(new ProductId(new String(id)));
+
+      assertEquals(id, key);
+      assertSame(key, CompactProductIds.key(new ProductId(new String(id))));
+    }
+  }
+
+  @Test
+  void productIdShouldReturnEqualIdWhenKeyWasBuiltFromIt() {
+    for (var id : List.of("2", "0", "02", "sku-7", "1234567890123456789")) {
+      assertEquals(new ProductId(id),
+          CompactProductIds.productId(CompactProductIds.key(new ProductId(id))));
+    }
+  }
+
+  @Test
+  void keyShouldReturnOneSharedKeyWhenIdHasNoValue() {
+    var key = CompactProductIds.key(new ProductId(null));
+
+    assertNotNull(key);
+    assertSame(key, CompactProductIds.key(new ProductId(null)));
+    assertNotEquals(CompactProductIds.key(new ProductId("null")), key);
+    assertEquals(new ProductId(null), CompactProductIds.productId(key));
+  }
+
+  @Test
+  void compactProductIdListShouldReturnEqualIdsWhenSomeIdsHaveNoValue() {
+    var productIds = List.of(new ProductId("2"), new ProductId(null), new ProductId("sku-3"));
+
+    var result = CompactProductIdList.of(productIds);
+
+    assertEquals(productIds, result.toProductIds());
+  }
+
+  @Test
+  void compactProductIdListShouldReturnEqualIdsWhenIdsAreNumeric() {
+    var productIds = List.of(new ProductId("2"), new ProductId("3"), new ProductId("40"));
+
+    var result = CompactProductIdList.of(productIds);
+
+    assertEquals(productIds, result.toProductIds());
+    assertEquals(3, result.size());
+    assertEquals(result, CompactProductIdList.of(List.copyOf(productIds)));
+  }
+
+  @Test
+  void compactProductIdListShouldReturnEqualIdsWhenSomeIdsAreNotNumeric() {
+    var productIds = List.of(new ProductId("2"), new ProductId("sku-3"), new ProductId("04"));
+
+    var result = CompactProductIdList.of(productIds);
+
+    assertEquals(productIds, result.toProductIds());
+    assertNotEquals(result, CompactProductIdList.of(productIds.subList(0, 2)));
+  }
+
+  @Test
+  void compactProductIdListShouldBeEmptyWhenThereAreNoIds() {
+    var result = CompactProductIdList.of(List.of());
+
+    assertEquals(List.of(), result.toProductIds());
+    assertEquals(0, result.size());
+  }
+}
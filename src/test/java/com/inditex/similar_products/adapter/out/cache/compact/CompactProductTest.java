@@ -0,0 +1,66 @@
+package com.inditex.similar_products.adapter.out.cache.compact;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class CompactProductTest {
+
+  private static final ProductId FIXED_PRODUCT_ID = new ProductId("2");
+
+  @Test
+  void toProductShouldReturnEqualProductWhenPriceFitsInLong() {
+    var product = new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.990"), true);
+
+    var result = CompactProduct.of(product).toProduct(FIXED_PRODUCT_ID);
+
+    assertEquals(product, result);
+    assertEquals(3, result.getPrice().scale());
+  }
+
+  @Test
+  void toProductShouldReturnEqualProductWhenPriceDoesNotFitInLong() {
+    var product = new Product(FIXED_PRODUCT_ID, "Dress",
+        new BigDecimal("123456789012345678901234567890.99"), false);
+
+    assertEquals(product, CompactProduct.of(product).toProduct(FIXED_PRODUCT_ID));
+  }
+
+  @Test
+  void toProductShouldReturnEqualProductWhenPriceHasNegativeScale() {
+    var product = new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("1E+3"), true);
+
+    assertEquals(product, CompactProduct.of(product).toProduct(FIXED_PRODUCT_ID));
+  }
+
+  @Test
+  void toProductShouldKeepNullsWhenFieldsAreMissing() {
+    var product = new Product(FIXED_PRODUCT_ID, null, null, null);
+
+    var result = CompactProduct.of(product).toProduct(FIXED_PRODUCT_ID);
+
+    assertEquals(product, result);
+    assertNull(result.getPrice());
+    assertNull(result.getIsAvailable());
+  }
+
+  @Test
+  void equalsShouldCompareValuesIncludingPriceScale() {
+    var product = CompactProduct.of(
+        new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.99"), true));
+
+    assertEquals(product, CompactProduct.of(
+        new Product(new ProductId("3"), "Dress", new BigDecimal("19.99"), true)));
+    assertEquals(product.hashCode(), CompactProduct.of(
+        new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.99"), true)).hashCode());
+    assertNotEquals(product, CompactProduct.of(
+        new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.990"), true)));
+    assertNotEquals(product, CompactProduct.of(
+        new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.99"), false)));
+    assertNotEquals(product, CompactProduct.of(
+        new Product(FIXED_PRODUCT_ID, "Dress", new BigDecimal("19.99"), null)));
+  }
+}
@@ -0,0 +1,68 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link SharedCache} kept in a map for tests. It records the calls it receives, keeps the TTL of
+ * every entry without expiring it, and fails every call while it is marked as down.
+ */
+public class InMemorySharedCache implements SharedCache {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final List<String> calls = new CopyOnWriteArrayList<>();
+
+  private volatile boolean down;
+
+  @Override
+  public List<byte[]> getAll(List<String> keys) {
+    call("getAll");
+    var values = new ArrayList<byte[]>(keys.size());
+    keys.forEach(key -> values.add(get(key)));
+    return values;
+  }
+
+  @Override
+  public void putAll(Map<String, byte[]> entries, Duration ttl) {
+    call("putAll");
+    entries.forEach((key, value) -> this.entries.put(key, new Entry(value, ttl)));
+  }
+
+  public List<String> calls() {
+    return List.copyOf(calls);
+  }
+
+  public byte[] get(String key) {
+    var entry = entries.get(key);
+    return entry == null ? null : entry.value();
+  }
+
+  public Duration ttl(String key) {
+    var entry = entries.get(key);
+    return entry == null ? null : entry.ttl();
+  }
+
+  public void set(String key, byte[] value) {
+    entries.put(key, new Entry(value, null));
+  }
+
+  public void down() {
+    down = true;
+  }
+
+  private void call(String name) {
+    if (down) {
+      throw new SharedCacheException("Shared cache is down");
+    }
+    calls.add(name);
+  }
+
+  private record Entry(byte[] value, Duration ttl) {
+
+  }
+}
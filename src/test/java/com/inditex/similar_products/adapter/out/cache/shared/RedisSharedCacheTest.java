@@ -0,0 +1,90 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.adapter.out.cache.shared.RedisSharedCache.RedisSharedCacheConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSharedCacheTest {
+
+  private static final String FIXED_PASSWORD = "secret";
+  private static final Duration FIXED_TIMEOUT = Duration.ofSeconds(2);
+  private static final byte[] FIXED_VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+  @Container
+  private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7.4-alpine")
+      .withCommand("redis-server", "--requirepass", FIXED_PASSWORD)
+      .withExposedPorts(6379);
+
+  @Test
+  void getAllShouldReturnStoredValuesInKeyOrderWhenSomeKeysAreMissing() {
+    try (var cache = newCache(FIXED_PASSWORD, 0)) {
+      cache.putAll(Map.of("test:a", FIXED_VALUE), Duration.ofSeconds(60));
+
+      var values = cache.getAll(List.of("test:missing", "test:a"));
+
+      assertNull(values.get(0));
+      assertArrayEquals(FIXED_VALUE, values.get(1));
+    }
+  }
+
+  @Test
+  void putAllShouldStoreEntriesWithTtlInSelectedDatabase() {
+    try (var cache = newCache(FIXED_PASSWORD, 3);
+        var otherDatabaseCache = newCache(FIXED_PASSWORD, 0);
+        var client = RedisClient.create(RedisURI.builder()
+            .withHost(REDIS.getHost())
+            .withPort(REDIS.getFirstMappedPort())
+            .withPassword(FIXED_PASSWORD.toCharArray())
+            .withDatabase(3)
+            .build());
+        var connection = client.connect()) {
+      cache.putAll(Map.of("test:b", FIXED_VALUE), Duration.ofSeconds(30));
+
+      var ttl = connection.sync().pttl("test:b");
+
+      assertTrue(ttl > 0 && ttl <= 30_000L);
+      assertNull(otherDatabaseCache.getAll(List.of("test:b")).get(0));
+    }
+  }
+
+  @Test
+  void getAllShouldThrowSharedCacheExceptionWhenPasswordIsWrong() {
+    try (var cache = newCache("wrong", 0)) {
+      assertThrows(SharedCacheException.class, () -> cache.getAll(List.of("test:a")));
+    }
+  }
+
+  @Test
+  void getAllShouldFailFastWhenCircuitBreakerIsOpen() {
+    var circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.ofDefaults());
+    circuitBreaker.transitionToOpenState();
+    try (var cache = new RedisSharedCache(config(FIXED_PASSWORD, 0), circuitBreaker)) {
+      var exception = assertThrows(SharedCacheException.class,
+          () -> cache.getAll(List.of("test:a")));
+
+      assertTrue(exception.getMessage().contains("is failing"));
+    }
+  }
+
+  private static RedisSharedCache newCache(String password, int database) {
+    return new RedisSharedCache(config(password, database), CircuitBreaker.ofDefaults("test"));
+  }
+
+  private static RedisSharedCacheConfig config(String password, int database) {
+    return new RedisSharedCacheConfig(REDIS.getHost(), REDIS.getFirstMappedPort(), FIXED_TIMEOUT,
+        FIXED_TIMEOUT, null, password, database, false);
+  }
+}
@@ -0,0 +1,61 @@
+package com.inditex.similar_products.adapter.out.cache.shared;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SharedCacheCodecTest {
+
+  private static final Product FIXED_PRODUCT = new Product(new ProductId("2"), "Dress ñ",
+      new BigDecimal("19.990"), true);
+
+  @Test
+  void decodeProductShouldReturnEqualProductWhenValueWasEncodedFromIt() {
+    var products = List.of(FIXED_PRODUCT,
+        new Product(new ProductId("3"), null, null, null),
+        new Product(new ProductId("4"), "Boots", new BigDecimal("-1E+3"), false));
+
+    for (var product : products) {
+      assertEquals(product,
+          SharedCacheCodec.decodeProduct(SharedCacheCodec.encodeProduct(product)));
+    }
+  }
+
+  @Test
+  void decodeProductIdsShouldReturnEqualIdsWhenValueWasEncodedFromThem() {
+    var productIds = List.of(new ProductId("2"), new ProductId("sku-3"));
+
+    assertEquals(productIds,
+        SharedCacheCodec.decodeProductIds(SharedCacheCodec.encodeProductIds(productIds)));
+    assertEquals(List.of(),
+        SharedCacheCodec.decodeProductIds(SharedCacheCodec.encodeProductIds(List.of())));
+  }
+
+  @Test
+  void decodeProductShouldThrowIllegalArgumentExceptionWhenValueIsTruncated() {
+    var value = SharedCacheCodec.encodeProduct(FIXED_PRODUCT);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> SharedCacheCodec.decodeProduct(Arrays.copyOf(value, value.length - 1)));
+  }
+
+  @Test
+  void decodeProductShouldThrowIllegalArgumentExceptionWhenVersionIsUnknown() {
+    var value = SharedCacheCodec.encodeProduct(FIXED_PRODUCT);
+    value[0] = SharedCacheCodec.VERSION + 1;
+
+    assertThrows(IllegalArgumentException.class, () -> SharedCacheCodec.decodeProduct(value));
+  }
+
+  @Test
+  void decodeProductIdsShouldThrowIllegalArgumentExceptionWhenValueIsAProduct() {
+    var value = SharedCacheCodec.encodeProduct(FIXED_PRODUCT);
+
+    assertThrows(IllegalArgumentException.class, () -> SharedCacheCodec.decodeProductIds(value));
+  }
+}
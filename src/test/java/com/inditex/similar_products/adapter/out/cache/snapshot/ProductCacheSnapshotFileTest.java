@@ -0,0 +1,99 @@
+package com.inditex.similar_products.adapter.out.cache.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProductCacheSnapshotFileTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
+  private static final ProductId FIXED_PRODUCT_ID_3 = new ProductId("3");
+  private static final ProductCacheSnapshot FIXED_SNAPSHOT = new ProductCacheSnapshot(
+      Map.of(
+          FIXED_PRODUCT_ID_2, new Product(FIXED_PRODUCT_ID_2, "Dress", new BigDecimal("19.99"),
+              true),
+          FIXED_PRODUCT_ID_3, new Product(FIXED_PRODUCT_ID_3, null, null, null)
+      ),
+      Map.of(FIXED_PRODUCT_ID_1, List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3))
+  );
+
+  @TempDir
+  private Path directory;
+
+  private Path path;
+
+  private ProductCacheSnapshotFile snapshotFile;
+
+  @BeforeEach
+  void setup() {
+    path = directory.resolve("product-cache.snapshot");
+    snapshotFile = new ProductCacheSnapshotFile(path);
+  }
+
+  @Test
+  void readShouldReturnWrittenSnapshotWhenFileIsComplete() throws Exception {
+    snapshotFile.write(FIXED_SNAPSHOT);
+
+    var result = snapshotFile.read().orElseThrow();
+
+    assertEquals(FIXED_SNAPSHOT.similarProductIds(), result.similarProductIds());
+    assertEquals(2, result.products().size());
+    var dress = result.products().get(FIXED_PRODUCT_ID_2);
+    assertEquals("Dress", dress.getName());
+    assertEquals(new BigDecimal("19.99"), dress.getPrice());
+    assertTrue(dress.getIsAvailable());
+    var unknown = result.products().get(FIXED_PRODUCT_ID_3);
+    assertNull(unknown.getName());
+    assertNull(unknown.getPrice());
+    assertNull(unknown.getIsAvailable());
+    try (var files = Files.list(directory)) {
+      assertEquals(List.of(path), files.toList());
+    }
+  }
+
+  @Test
+  void readShouldReturnEmptyWhenFileDoesNotExist() throws Exception {
+    assertTrue(snapshotFile.read().isEmpty());
+  }
+
+  @Test
+  void readShouldReturnEmptyWhenFileIsTruncated() throws Exception {
+    snapshotFile.write(FIXED_SNAPSHOT);
+    var bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 5));
+
+    assertTrue(snapshotFile.read().isEmpty());
+  }
+
+  @Test
+  void readShouldReturnEmptyWhenChecksumDoesNotMatch() throws Exception {
+    snapshotFile.write(FIXED_SNAPSHOT);
+    var bytes = Files.readAllBytes(path);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(path, bytes);
+
+    assertTrue(snapshotFile.read().isEmpty());
+  }
+
+  @Test
+  void readShouldReturnEmptyWhenVersionIsUnknown() throws Exception {
+    snapshotFile.write(FIXED_SNAPSHOT);
+    var bytes = Files.readAllBytes(path);
+    ByteBuffer.wrap(bytes).putInt(Integer.BYTES, ProductCacheSnapshotFile.VERSION + 1);
+    Files.write(path, bytes);
+
+    assertTrue(snapshotFile.read().isEmpty());
+  }
+}
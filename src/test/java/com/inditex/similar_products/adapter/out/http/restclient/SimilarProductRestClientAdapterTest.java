@@ -1,17 +1,28 @@
 package com.inditex.similar_products.adapter.out.http.restclient;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
-import com.inditex.similar_products.adapter.out.http.restclient.dto.ProductRestClientDto;
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,14 +41,14 @@ class SimilarProductRestClientAdapterTest {
 
   private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
   private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
-  private static final ProductRestClientDto FIXED_PRODUCT_DTO_2 = new ProductRestClientDto(
-      "2", "Dress", BigDecimal.valueOf(19.99), true
+  private static final Product FIXED_PRODUCT_2 = new Product(
+      new ProductId("2"), "Dress", BigDecimal.valueOf(19.99), true
   );
-  private static final ProductRestClientDto FIXED_PRODUCT_DTO_3 = new ProductRestClientDto(
-      "3", "Blazer", BigDecimal.valueOf(29.99), false
+  private static final Product FIXED_PRODUCT_3 = new Product(
+      new ProductId("3"), "Blazer", BigDecimal.valueOf(29.99), false
   );
-  private static final ProductRestClientDto FIXED_PRODUCT_DTO_4 = new ProductRestClientDto(
-      "4", "Boots", BigDecimal.valueOf(39.99), true
+  private static final Product FIXED_PRODUCT_4 = new Product(
+      new ProductId("4"), "Boots", BigDecimal.valueOf(39.99), true
   );
 
   @BeforeEach
@@ -96,9 +107,9 @@ class SimilarProductRestClientAdapterTest {
 
   @Test
   void getProductsShouldReturnListOfProductsWhenClientReturnsAsExpected() {
-    when(productRestClient.getProductById("2")).thenReturn(FIXED_PRODUCT_DTO_2);
-    when(productRestClient.getProductById("3")).thenReturn(FIXED_PRODUCT_DTO_3);
-    when(productRestClient.getProductById("4")).thenReturn(FIXED_PRODUCT_DTO_4);
+    when(productRestClient.getProductById("2")).thenReturn(FIXED_PRODUCT_2);
+    when(productRestClient.getProductById("3")).thenReturn(FIXED_PRODUCT_3);
+    when(productRestClient.getProductById("4")).thenReturn(FIXED_PRODUCT_4);
 
     var result = similarProductRestClientAdapter.getProducts(List.of(
         new ProductId("2"), new ProductId("3"), new ProductId("4")
@@ -143,4 +154,136 @@ class SimilarProductRestClientAdapterTest {
     assertThrows(RuntimeException.class,
         () -> similarProductRestClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2)));
   }
-}
\ No newline at end of file
+
+  @Test
+  void getProductsShouldThrowDeadlineExceededExceptionWhenClientDoesNotAnswerWithinDeadline() {
+    when(productRestClient.getProductById("2")).thenAnswer(invocation -> {
+      Thread.sleep(5000);
+      return FIXED_PRODUCT_2;
+    });
+    var deadline = Deadline.after(Duration.ofMillis(100));
+
+    assertThrows(DeadlineExceededException.class, () -> DeadlineContext.supplyWithin(deadline,
+        () -> similarProductRestClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2))));
+  }
+
+  @Test
+  void getProductsShouldInterruptSharedDetailCallWhenItsOnlyCallerDeadlineHasPassed()
+      throws Exception {
+    var seenDeadline = new CompletableFuture<Optional<Deadline>>();
+    var detailCallFailure = new CompletableFuture<Exception>();
+    when(productRestClient.getProductById("2")).thenAnswer(invocation -> {
+      seenDeadline.complete(DeadlineContext.current());
+      try {
+        Thread.sleep(5000);
+        return FIXED_PRODUCT_2;
+      } catch (InterruptedException e) {
+        detailCallFailure.complete(e);
+        throw e;
+      }
+    });
+    var deadline = Deadline.after(Duration.ofMillis(200));
+
+    assertThrows(DeadlineExceededException.class, () -> DeadlineContext.supplyWithin(deadline,
+        () -> similarProductRestClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2))));
+
+    assertEquals(Optional.empty(), seenDeadline.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(InterruptedException.class, detailCallFailure.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void getProductsShouldServeLaterDeadlineCallerWhenEarlierDeadlineCallerSharingTheCallTimesOut()
+      throws Exception {
+    var detailCallStarted = new CountDownLatch(1);
+    when(productRestClient.getProductById("2")).thenAnswer(invocation -> {
+      detailCallStarted.countDown();
+      Thread.sleep(400);
+      return FIXED_PRODUCT_2;
+    });
+    var longDeadline = Deadline.after(Duration.ofSeconds(5));
+    var shortDeadline = Deadline.after(Duration.ofMillis(100));
+
+    var longDeadlineResult = CompletableFuture.supplyAsync(() -> DeadlineContext.supplyWithin(
+        longDeadline,
+        () -> similarProductRestClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2))),
+        virtualThreadExecutor);
+    assertTrue(detailCallStarted.await(1, TimeUnit.SECONDS));
+    assertThrows(DeadlineExceededException.class, () -> DeadlineContext.supplyWithin(
+        shortDeadline,
+        () -> similarProductRestClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2))));
+
+    assertEquals(List.of(FIXED_PRODUCT_2), longDeadlineResult.get(2, TimeUnit.SECONDS));
+    verify(productRestClient, times(1)).getProductById("2");
+  }
+
+  @Test
+  void getAvailableProductsShouldOmitProductsWhenClientThrowsForThem() {
+    when(productRestClient.getProductById("2")).thenReturn(FIXED_PRODUCT_2);
+    when(productRestClient.getProductById("3")).thenThrow(
+        new SimilarProductsRetrievalException("Something went wrong"));
+    when(productRestClient.getProductById("4")).thenReturn(FIXED_PRODUCT_4);
+
+    var result = similarProductRestClientAdapter.getAvailableProducts(List.of(
+        new ProductId("2"), new ProductId("3"), new ProductId("4")
+    ));
+
+    assertEquals(2, result.products().size());
+    assertEquals("2", result.products().get(0).getId().value());
+    assertEquals("4", result.products().get(1).getId().value());
+    assertEquals(List.of(new ProductId("3")), result.omittedProductIds());
+  }
+
+  @Test
+  void getAvailableProductsShouldOmitProductsNotRetrievedWithinDeadline() {
+    when(productRestClient.getProductById("2")).thenReturn(FIXED_PRODUCT_2);
+    when(productRestClient.getProductById("3")).thenAnswer(invocation -> {
+      Thread.sleep(5000);
+      return FIXED_PRODUCT_3;
+    });
+    var deadline = Deadline.after(Duration.ofMillis(100));
+
+    var result = DeadlineContext.supplyWithin(deadline,
+        () -> similarProductRestClientAdapter.getAvailableProducts(
+            List.of(FIXED_PRODUCT_ID_2, new ProductId("3"))));
+
+    assertEquals(1, result.products().size());
+    assertEquals("2", result.products().get(0).getId().value());
+    assertEquals(List.of(new ProductId("3")), result.omittedProductIds());
+  }
+
+  @Test
+  void streamAvailableProductsShouldEmitProductsInCompletionOrderWhenNotOrdered() {
+    when(productRestClient.getProductById("2")).thenAnswer(invocation -> {
+      Thread.sleep(200);
+      return FIXED_PRODUCT_2;
+    });
+    when(productRestClient.getProductById("3")).thenReturn(FIXED_PRODUCT_3);
+    var emitted = new ArrayList<String>();
+
+    var omitted = similarProductRestClientAdapter.streamAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, new ProductId("3")), false,
+        product -> emitted.add(product.getId().value()));
+
+    assertEquals(List.of("3", "2"), emitted);
+    assertTrue(omitted.isEmpty());
+  }
+
+  @Test
+  void streamAvailableProductsShouldEmitProductsInRequestedOrderAndReportOmittedWhenOrdered() {
+    when(productRestClient.getProductById("2")).thenAnswer(invocation -> {
+      Thread.sleep(200);
+      return FIXED_PRODUCT_2;
+    });
+    when(productRestClient.getProductById("3")).thenThrow(
+        new SimilarProductsRetrievalException("Something went wrong"));
+    when(productRestClient.getProductById("4")).thenReturn(FIXED_PRODUCT_4);
+    var emitted = new ArrayList<String>();
+
+    var omitted = similarProductRestClientAdapter.streamAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_2, new ProductId("3"), new ProductId("4")), true,
+        product -> emitted.add(product.getId().value()));
+
+    assertEquals(List.of("2", "4"), emitted);
+    assertEquals(List.of(new ProductId("3")), omitted);
+  }
+}
@@ -0,0 +1,87 @@
+package com.inditex.similar_products.adapter.out.http.restclient.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.model.Deadline;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class DeadlineClientHttpRequestInterceptorTest {
+
+  private static final MockClientHttpRequest FIXED_REQUEST = new MockClientHttpRequest(
+      HttpMethod.GET, URI.create("http://mock-product-api/product/1"));
+
+  private final DeadlineClientHttpRequestInterceptor interceptor =
+      new DeadlineClientHttpRequestInterceptor();
+
+  @AfterEach
+  void tearDown() {
+    interceptor.close();
+  }
+
+  @Test
+  void interceptShouldExecuteRequestWhenThereIsNoDeadline() throws IOException {
+    var response = interceptor.intercept(FIXED_REQUEST, new byte[0], respondingAfter(0));
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+  }
+
+  @Test
+  void interceptShouldExecuteRequestWhenItAnswersWithinDeadline() {
+    var response = DeadlineContext.supplyWithin(Deadline.after(Duration.ofSeconds(5)),
+        () -> intercept(respondingAfter(10)));
+
+    assertNotNull(response);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void interceptShouldAbortRequestAndThrowDeadlineExceededExceptionWhenDeadlineExpires() {
+    var deadline = Deadline.after(Duration.ofMillis(100));
+    var start = System.nanoTime();
+
+    assertThrows(DeadlineExceededException.class,
+        () -> DeadlineContext.supplyWithin(deadline, () -> intercept(respondingAfter(5000))));
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5000);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void interceptShouldThrowDeadlineExceededExceptionWithoutCallingWhenDeadlineAlreadyExpired() {
+    var deadline = Deadline.after(Duration.ZERO);
+
+    assertThrows(DeadlineExceededException.class, () -> DeadlineContext.supplyWithin(deadline,
+        () -> intercept((request, body) -> fail("Request should not be executed"))));
+  }
+
+  private ClientHttpResponse intercept(ClientHttpRequestExecution execution) {
+    try {
+      return interceptor.intercept(FIXED_REQUEST, new byte[0], execution);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ClientHttpRequestExecution respondingAfter(long millis) {
+    return (request, body) -> {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        throw new InterruptedIOException("Closed by interrupt");
+      }
+      return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    };
+  }
+}
@@ -2,24 +2,42 @@ package com.inditex.similar_products.adapter.out.http.restclient.client;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServiceUnavailable;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.AimdConcurrencyLimiter.AimdConcurrencyLimiterConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry.BudgetedRetryConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetryRegistry;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.ConcurrencyLimiterRegistry;
+import com.inditex.similar_products.adapter.out.http.restclient.json.ProductHttpMessageConverter;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Product;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
@@ -45,6 +63,8 @@ class ProductRestClientTest {
   private static final String FIXED_GET_PRODUCT_RAW_RESPONSE_2 = """
       {"id":"2","name":"Dress","price":19.99,"availability":true}
       """;
+  private static final String FIXED_ETAG = "\"v1\"";
+  private static final String FIXED_LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
 
   @Autowired
   private MockRestServiceServer productApiMock;
@@ -52,13 +72,45 @@ class ProductRestClientTest {
   @Autowired
   private ProductRestClient productRestClient;
 
+  @Autowired
+  private CircuitBreakerRegistry productApiCircuitBreakerRegistry;
+
+  @Autowired
+  private ProductDetailsValidatorCache productDetailsValidatorCache;
+
+  private final Map<String, Product> cachedProducts = new ConcurrentHashMap<>();
+
   @TestConfiguration
-  @EnableRetry
   static class TestConfig {
 
     @Bean
-    RestClient productApiRestClient(RestClient.Builder builder) {
-      return builder.baseUrl(FIXED_BASED_URL).build();
+    RestClient productApiRestClient(RestClient.Builder builder, ObjectMapper objectMapper) {
+      return builder.baseUrl(FIXED_BASED_URL)
+          .messageConverters(converters -> converters.add(0,
+              new ProductHttpMessageConverter(objectMapper.getFactory())))
+          .build();
+    }
+
+    @Bean
+    CircuitBreakerRegistry productApiCircuitBreakerRegistry() {
+      return CircuitBreakerRegistry.ofDefaults();
+    }
+
+    @Bean
+    ConcurrencyLimiterRegistry productApiConcurrencyLimiterRegistry() {
+      return new ConcurrencyLimiterRegistry(new AimdConcurrencyLimiterConfig(10, 1, 100, 0.9,
+          Duration.ofSeconds(1), Duration.ZERO, e -> false));
+    }
+
+    @Bean
+    BudgetedRetryRegistry productApiRetryRegistry() {
+      return new BudgetedRetryRegistry(new BudgetedRetryConfig(3, Duration.ofMillis(100), 1,
+          Duration.ofMillis(100), 1, 100, ProductRestClient::isRetryable));
+    }
+
+    @Bean
+    ProductDetailsValidatorCache productDetailsValidatorCache() {
+      return new ProductDetailsValidatorCache(Caffeine.newBuilder());
     }
   }
 
@@ -70,6 +122,9 @@ class ProductRestClientTest {
     ReflectionTestUtils.setField(
         productRestClient, "getProductDetailsUrl", FIXED_PRODUCT_DETAILS_URL
     );
+    productApiCircuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+    productDetailsValidatorCache.useCachedProducts(
+        productId -> Optional.ofNullable(cachedProducts.get(productId)));
   }
 
   @Test
@@ -167,10 +222,89 @@ class ProductRestClientTest {
 
     var result = productRestClient.getProductById(FIXED_PRODUCT_ID_2);
 
-    assertEquals("2", result.id());
-    assertEquals("Dress", result.name());
-    assertEquals(19.99, result.price().doubleValue());
-    assertEquals(true, result.availability());
+    assertEquals("2", result.getId().value());
+    assertEquals("Dress", result.getName());
+    assertEquals(19.99, result.getPrice().doubleValue());
+    assertEquals(true, result.getIsAvailable());
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldSendValidatorsAndReuseCachedProductWhenApiReturns304() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}", "7");
+    productApiMock.expect(once(), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andRespond(withSuccess(FIXED_GET_PRODUCT_RAW_RESPONSE_2, MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.ETAG, FIXED_ETAG)
+            .header(HttpHeaders.LAST_MODIFIED, FIXED_LAST_MODIFIED));
+    productApiMock.expect(once(), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, FIXED_ETAG))
+        .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, FIXED_LAST_MODIFIED))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+    var notModified = productDetailsValidatorCache.notModified();
+
+    var first = productRestClient.getProductById("7");
+    cachedProducts.put("7", first);
+    var revalidated = productRestClient.getProductById("7");
+
+    assertEquals(first, revalidated);
+    assertEquals(notModified + 1, productDetailsValidatorCache.notModified());
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldNotSendValidatorsWhenProductIsNoLongerCached() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}", "9");
+    productApiMock.expect(ExpectedCount.times(2), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_MODIFIED_SINCE))
+        .andRespond(withSuccess(FIXED_GET_PRODUCT_RAW_RESPONSE_2, MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.ETAG, FIXED_ETAG)
+            .header(HttpHeaders.LAST_MODIFIED, FIXED_LAST_MODIFIED));
+
+    productRestClient.getProductById("9");
+    var result = productRestClient.getProductById("9");
+
+    assertEquals("Dress", result.getName());
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldNotSendValidatorsWhenCachedProductDiffersFromValidatedOne() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}", "10");
+    productApiMock.expect(ExpectedCount.times(2), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_MODIFIED_SINCE))
+        .andRespond(withSuccess(FIXED_GET_PRODUCT_RAW_RESPONSE_2, MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.ETAG, FIXED_ETAG)
+            .header(HttpHeaders.LAST_MODIFIED, FIXED_LAST_MODIFIED));
+
+    var first = productRestClient.getProductById("10");
+    cachedProducts.put("10", new Product(first.getId(), "Other dress", first.getPrice(),
+        first.getIsAvailable()));
+    var result = productRestClient.getProductById("10");
+
+    assertEquals(first, result);
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldNotSendValidatorsWhenApiReturnsNone() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}", "8");
+    productApiMock.expect(ExpectedCount.times(2), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_MODIFIED_SINCE))
+        .andRespond(withSuccess(FIXED_GET_PRODUCT_RAW_RESPONSE_2, MediaType.APPLICATION_JSON));
+
+    productRestClient.getProductById("8");
+    var result = productRestClient.getProductById("8");
+
+    assertEquals("Dress", result.getName());
     productApiMock.verify();
   }
 
@@ -200,6 +334,32 @@ class ProductRestClientTest {
     productApiMock.verify();
   }
 
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns400() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}",
+        FIXED_PRODUCT_ID_2);
+    productApiMock.expect(once(), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productRestClient.getProductById(FIXED_PRODUCT_ID_2));
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndRetry3TimesWhenApiReturns429() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}",
+        FIXED_PRODUCT_ID_2);
+    productApiMock.expect(ExpectedCount.times(3), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productRestClient.getProductById(FIXED_PRODUCT_ID_2));
+    productApiMock.verify();
+  }
+
   @Test
   void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndRetry3TimesWhenApiReturns500() {
     var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}",
@@ -225,4 +385,39 @@ class ProductRestClientTest {
         () -> productRestClient.getProductById(FIXED_PRODUCT_ID_2));
     productApiMock.verify();
   }
-}
\ No newline at end of file
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns501() {
+    var url = FIXED_BASED_URL + FIXED_PRODUCT_DETAILS_URL.replace("{productId}",
+        FIXED_PRODUCT_ID_2);
+    productApiMock.expect(once(), requestTo(url))
+        .andExpect(method(HttpMethod.GET))
+        .andRespond(withStatus(HttpStatus.NOT_IMPLEMENTED));
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productRestClient.getProductById(FIXED_PRODUCT_ID_2));
+    productApiMock.verify();
+  }
+
+  @Test
+  void getSimilarProductIdsShouldThrowSimilarProductsRetrievalExceptionWithoutCallingApiWhenCircuitIsOpen() {
+    productApiCircuitBreakerRegistry
+        .circuitBreaker(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT)
+        .transitionToOpenState();
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productRestClient.getSimilarProductIds(FIXED_PRODUCT_ID_1));
+    productApiMock.verify();
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionWithoutCallingApiWhenCircuitIsOpen() {
+    productApiCircuitBreakerRegistry
+        .circuitBreaker(ProductRestClient.PRODUCT_DETAILS_ENDPOINT)
+        .transitionToOpenState();
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productRestClient.getProductById(FIXED_PRODUCT_ID_2));
+    productApiMock.verify();
+  }
+}
@@ -0,0 +1,87 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.AimdConcurrencyLimiter.AimdConcurrencyLimiterConfig;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AimdConcurrencyLimiterTest {
+
+  private static final String FIXED_NAME = "product-api-product-details";
+
+  private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(FIXED_NAME,
+      new AimdConcurrencyLimiterConfig(2, 1, 3, 0.5, Duration.ofSeconds(1), Duration.ZERO,
+          SimilarProductsRetrievalException.class::isInstance));
+
+  @AfterEach
+  void tearDown() {
+    virtualThreadExecutor.close();
+  }
+
+  @Test
+  void executeSupplierShouldRejectCallsBeyondTheLimit() throws Exception {
+    var started = new CountDownLatch(2);
+    var release = new CountDownLatch(1);
+    for (int i = 0; i < 2; i++) {
+      virtualThreadExecutor.submit(() -> limiter.executeSupplier(() -> {
+        started.countDown();
+        await(release);
+        return "value";
+      }));
+    }
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    assertThrows(ConcurrencyLimitExceededException.class,
+        () -> limiter.executeSupplier(() -> "value"));
+    assertEquals(2, limiter.inFlight());
+    assertEquals(1, limiter.rejectedCalls());
+    release.countDown();
+  }
+
+  @Test
+  void executeSupplierShouldIncreaseLimitAfterFastCallsUsingTheLimit() {
+    limiter.executeSupplier(() -> "value");
+
+    assertEquals(3, limiter.limit());
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  void executeSupplierShouldDecreaseLimitWhenCallFailsWithOverloadError() {
+    assertThrows(SimilarProductsRetrievalException.class, () -> limiter.executeSupplier(() -> {
+      throw new SimilarProductsRetrievalException("Something went wrong");
+    }));
+
+    assertEquals(1, limiter.limit());
+    assertEquals(1, limiter.limitDecreases());
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  void executeSupplierShouldNotDecreaseLimitBelowMinimum() {
+    for (int i = 0; i < 3; i++) {
+      assertThrows(SimilarProductsRetrievalException.class, () -> limiter.executeSupplier(() -> {
+        throw new SimilarProductsRetrievalException("Something went wrong");
+      }));
+    }
+
+    assertEquals(1, limiter.limit());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry.BudgetedRetryConfig;
+import com.inditex.similar_products.application.context.DeadlineContext;
+import com.inditex.similar_products.domain.model.Deadline;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+class BudgetedRetryTest {
+
+  private static final String FIXED_NAME = "product-api-product-details";
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void executeSupplierShouldRetryUntilSuccessWhenFailureIsRetryable() {
+    var retry = retry(3, Duration.ofMillis(10), 10);
+
+    var result = retry.executeSupplier(() -> failTimes(2, new IllegalStateException()));
+
+    assertEquals("ok", result);
+    assertEquals(3, calls.get());
+    assertEquals(2, retry.retries());
+  }
+
+  @Test
+  void executeSupplierShouldStopAtMaxAttemptsWhenFailureIsRetryable() {
+    var retry = retry(3, Duration.ofMillis(10), 10);
+
+    assertThrows(IllegalStateException.class,
+        () -> retry.executeSupplier(() -> failTimes(5, new IllegalStateException())));
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void executeSupplierShouldNotRetryWhenFailureIsNotRetryable() {
+    var retry = retry(3, Duration.ofMillis(10), 10);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> retry.executeSupplier(() -> failTimes(5, new IllegalArgumentException())));
+    assertEquals(1, calls.get());
+    assertEquals(0, retry.retries());
+  }
+
+  @Test
+  void executeSupplierShouldStopRetryingWhenBudgetIsExhausted() {
+    var retry = retry(3, Duration.ofMillis(1), 1);
+
+    assertThrows(IllegalStateException.class,
+        () -> retry.executeSupplier(() -> failTimes(5, new IllegalStateException())));
+    assertEquals(2, calls.get());
+    assertEquals(1, retry.retries());
+    assertEquals(1, retry.budgetRejections());
+  }
+
+  @Test
+  void executeSupplierShouldNotRetryWhenDeadlineHasNoTimeLeft() {
+    var retry = retry(3, Duration.ofMillis(10), 10);
+    var deadline = Deadline.after(Duration.ZERO);
+
+    assertThrows(IllegalStateException.class, () -> DeadlineContext.supplyWithin(deadline,
+        () -> retry.executeSupplier(() -> failTimes(5, new IllegalStateException()))));
+    assertEquals(1, calls.get());
+    assertEquals(0, retry.retries());
+  }
+
+  @Test
+  void executeSupplierShouldStopRetryingOnWorkerThreadWhenNextAttemptWouldExceedDeadline() {
+    var retry = retry(10, Duration.ofMillis(1), 10);
+    var deadline = Deadline.after(Duration.ofMillis(200));
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var future = DeadlineContext.supplyWithin(deadline,
+          () -> CompletableFuture.supplyAsync(DeadlineContext.propagating(
+              () -> retry.executeSupplier(() -> {
+                LockSupport.parkNanos(Duration.ofMillis(60).toNanos());
+                return failTimes(10, new IllegalStateException());
+              })), executor));
+
+      var failure = assertThrows(CompletionException.class, future::join);
+      assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+    assertTrue(calls.get() < 10, "retried past the deadline: " + calls.get() + " calls");
+    assertEquals(calls.get() - 1, retry.retries());
+  }
+
+  private BudgetedRetry retry(int maxAttempts, Duration delay, double budgetMaxTokens) {
+    return new BudgetedRetry(FIXED_NAME, new BudgetedRetryConfig(maxAttempts, delay, 2,
+        Duration.ofSeconds(1), 0, budgetMaxTokens, IllegalStateException.class::isInstance));
+  }
+
+  private String failTimes(int failures, RuntimeException failure) {
+    if (calls.incrementAndGet() <= failures) {
+      throw failure;
+    }
+    return "ok";
+  }
+}
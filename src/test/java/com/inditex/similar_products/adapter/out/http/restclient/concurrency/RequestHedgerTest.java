@@ -0,0 +1,114 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+  private static final Duration FIXED_HEDGE_DELAY = Duration.ofMillis(20);
+
+  private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    virtualThreadExecutor.close();
+  }
+
+  @Test
+  void executeShouldReturnHedgeResultAndCancelPrimaryWhenPrimaryIsSlow() throws Exception {
+    var hedger = hedger(new TokenBucketBudget(0.1, 1));
+
+    var result = hedger.execute(this::slowFirstCall);
+
+    assertEquals("hedge", result);
+    assertEquals(2, executions.get());
+    assertEquals(1, hedger.hedgedCalls());
+    assertEquals(1, hedger.callsWonByHedge());
+    assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void executeShouldNotHedgeWhenBudgetIsExhausted() throws Exception {
+    var hedger = hedger(new TokenBucketBudget(0.1, 1));
+    hedger.execute(this::slowFirstCall);
+    executions.set(0);
+
+    var result = hedger.execute(() -> {
+      executions.incrementAndGet();
+      Thread.sleep(FIXED_HEDGE_DELAY.multipliedBy(3).toMillis());
+      return "primary";
+    });
+
+    assertEquals("primary", result);
+    assertEquals(1, executions.get());
+    assertEquals(1, hedger.hedgedCalls());
+    assertEquals(1, hedger.hedgesRejectedByBudget());
+  }
+
+  @Test
+  void executeShouldNotHedgeWhenPrimaryAnswersBeforeThreshold() throws Exception {
+    var hedger = hedger(new TokenBucketBudget(0.1, 1));
+
+    var result = hedger.execute(() -> {
+      executions.incrementAndGet();
+      return "primary";
+    });
+
+    assertEquals("primary", result);
+    assertEquals(1, executions.get());
+    assertEquals(0, hedger.hedgedCalls());
+  }
+
+  @Test
+  void executeShouldPropagateExceptionWhenEveryAttemptFails() {
+    var hedger = hedger(new TokenBucketBudget(0.1, 1));
+
+    assertThrows(SimilarProductsRetrievalException.class, () -> hedger.execute(() -> {
+      executions.incrementAndGet();
+      Thread.sleep(FIXED_HEDGE_DELAY.multipliedBy(2).toMillis());
+      throw new SimilarProductsRetrievalException("Something went wrong");
+    }));
+    assertEquals(2, executions.get());
+  }
+
+  @Test
+  void executeShouldCallDirectlyWhenHedgingIsDisabled() throws Exception {
+    var callerThread = Thread.currentThread();
+
+    var result = RequestHedger.disabled().execute(() -> Thread.currentThread() == callerThread);
+
+    assertTrue(result);
+  }
+
+  private RequestHedger hedger(TokenBucketBudget budget) {
+    var latencyTracker = new LatencyPercentileTracker(100, 0.95, FIXED_HEDGE_DELAY,
+        FIXED_HEDGE_DELAY);
+    return new RequestHedger(true, virtualThreadExecutor, latencyTracker, budget);
+  }
+
+  private String slowFirstCall() {
+    if (executions.incrementAndGet() > 1) {
+      return "hedge";
+    }
+    try {
+      Thread.sleep(Duration.ofSeconds(5));
+      return "primary";
+    } catch (InterruptedException e) {
+      primaryInterrupted.countDown();
+      throw new IllegalStateException(e);
+    }
+  }
+}
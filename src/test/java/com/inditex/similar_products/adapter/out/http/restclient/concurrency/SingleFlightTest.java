@@ -0,0 +1,113 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private static final String FIXED_KEY = "1";
+
+  private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>(
+      virtualThreadExecutor);
+
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    virtualThreadExecutor.close();
+  }
+
+  @Test
+  void executeShouldShareOneCallBetweenConcurrentCallersWithSameKey() {
+    var first = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    var second = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    release.countDown();
+
+    assertEquals("value", first.join());
+    assertEquals("value", second.join());
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  void executeShouldRemoveEntryOnceTheCallCompletes() {
+    var first = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    assertEquals(1, singleFlight.inFlight());
+    release.countDown();
+    first.join();
+
+    assertEquals(0, singleFlight.inFlight());
+    singleFlight.execute(FIXED_KEY, this::blockingCall).join();
+    assertEquals(2, executions.get());
+  }
+
+  @Test
+  void executeShouldKeepTheCallRunningWhenOnlyOneWaiterIsCancelled() throws Exception {
+    var first = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    var second = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    first.cancel(true);
+    release.countDown();
+
+    assertTrue(first.isCancelled());
+    assertEquals("value", second.join());
+  }
+
+  @Test
+  void executeShouldInterruptTheCallWhenAllWaitersAreCancelled() throws Exception {
+    var interrupted = new CountDownLatch(1);
+    var first = singleFlight.execute(FIXED_KEY, () -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        throw e;
+      }
+      return "value";
+    });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+
+    first.cancel(true);
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    assertEquals(0, singleFlight.inFlight());
+  }
+
+  @Test
+  void executeShouldPropagateTheOriginalExceptionToEveryWaiter() {
+    var first = singleFlight.execute(FIXED_KEY, () -> {
+      release.await();
+      throw new SimilarProductsRetrievalException("Something went wrong");
+    });
+    var second = singleFlight.execute(FIXED_KEY, this::blockingCall);
+    release.countDown();
+
+    var firstError = assertThrows(CompletionException.class, first::join);
+    var secondError = assertThrows(CompletionException.class, second::join);
+    assertInstanceOf(SimilarProductsRetrievalException.class, firstError.getCause());
+    assertInstanceOf(SimilarProductsRetrievalException.class, secondError.getCause());
+  }
+
+  private String blockingCall() throws InterruptedException {
+    executions.incrementAndGet();
+    started.countDown();
+    release.await();
+    return "value";
+  }
+}
@@ -0,0 +1,61 @@
+package com.inditex.similar_products.adapter.out.http.restclient.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TrackingExecutorServiceTest {
+
+  private final TrackingExecutorService trackingExecutorService = new TrackingExecutorService(
+      Executors.newVirtualThreadPerTaskExecutor());
+
+  @AfterEach
+  void tearDown() {
+    trackingExecutorService.close();
+  }
+
+  @Test
+  void executeShouldCountRunningAndCompletedTasks() throws Exception {
+    var started = new CountDownLatch(2);
+    var release = new CountDownLatch(1);
+    var first = trackingExecutorService.submit(() -> awaitRelease(started, release));
+    var second = trackingExecutorService.submit(() -> awaitRelease(started, release));
+
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertEquals(2, trackingExecutorService.running());
+    assertEquals(0, trackingExecutorService.queued());
+
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    trackingExecutorService.shutdown();
+    assertTrue(trackingExecutorService.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(0, trackingExecutorService.running());
+    assertEquals(2, trackingExecutorService.completed());
+  }
+
+  @Test
+  void executeShouldNotCountTaskWhenDelegateRejectsIt() {
+    trackingExecutorService.shutdown();
+
+    assertThrows(RejectedExecutionException.class,
+        () -> trackingExecutorService.execute(() -> {
+        }));
+    assertEquals(0, trackingExecutorService.queued());
+    assertEquals(0, trackingExecutorService.completed());
+  }
+
+  private static void awaitRelease(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.inditex.similar_products.adapter.out.http.restclient.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+class ProductApiHttpClientConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(ProductApiHttpClientConfig.class)
+      .withBean("virtualThreadExecutor", ExecutorService.class,
+          Executors::newVirtualThreadPerTaskExecutor)
+      .withPropertyValues(
+          "product-api.timeouts.read=1000",
+          "product-api.timeouts.connect=1000",
+          "product-api.http.max-connections=10",
+          "product-api.http.max-connections-per-route=5",
+          "product-api.http.keep-alive=30000",
+          "product-api.http.idle-timeout=10000");
+
+  @Test
+  void contextShouldUsePooledRequestFactoryWhenClientIsNotSet() {
+    contextRunner.run(context -> {
+      assertNull(context.getStartupFailure());
+      assertInstanceOf(HttpComponentsClientHttpRequestFactory.class,
+          context.getBean(ClientHttpRequestFactory.class));
+      assertEquals(1, context.getBeansOfType(PoolingHttpClientConnectionManager.class).size());
+    });
+  }
+
+  @Test
+  void contextShouldUsePooledRequestFactoryWhenClientIsPooled() {
+    contextRunner.withPropertyValues("product-api.http.client=pooled").run(context ->
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class,
+            context.getBean(ClientHttpRequestFactory.class)));
+  }
+
+  @Test
+  void contextShouldUseJdkRequestFactoryWhenClientIsJdk() {
+    contextRunner.withPropertyValues("product-api.http.client=jdk").run(context -> {
+      assertInstanceOf(JdkClientHttpRequestFactory.class,
+          context.getBean(ClientHttpRequestFactory.class));
+      assertTrue(context.getBeansOfType(PoolingHttpClientConnectionManager.class).isEmpty());
+    });
+  }
+
+  @Test
+  void contextShouldUseSimpleRequestFactoryWhenClientIsSimple() {
+    contextRunner.withPropertyValues("product-api.http.client=simple").run(context -> {
+      assertInstanceOf(SimpleClientHttpRequestFactory.class,
+          context.getBean(ClientHttpRequestFactory.class));
+      assertTrue(context.getBeansOfType(PoolingHttpClientConnectionManager.class).isEmpty());
+    });
+  }
+
+  @Test
+  void contextShouldFailToStartWhenClientIsNotSupported() {
+    contextRunner.withPropertyValues("product-api.http.client=okhttp").run(context -> {
+      var failure = context.getStartupFailure();
+      assertNotNull(failure);
+      var cause = failure;
+      while (cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      assertInstanceOf(IllegalStateException.class, cause);
+      assertEquals("Unsupported product-api.http.client 'okhttp', expected one of pooled, jdk,"
+          + " simple", cause.getMessage());
+    });
+  }
+}
@@ -0,0 +1,123 @@
+package com.inditex.similar_products.adapter.out.http.restclient.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ProductJsonDecoderTest {
+
+  private static final String FIXED_PRODUCT_JSON =
+      "{\"id\":\"2\",\"name\":\"Dress\",\"price\":19.990,\"availability\":true}";
+
+  private static final int ITERATIONS = 20_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  @Test
+  void readShouldReturnProductWhenBodyIsComplete() throws Exception {
+    var result = read(FIXED_PRODUCT_JSON);
+
+    assertEquals(new Product(new ProductId("2"), "Dress", new BigDecimal("19.990"), true), result);
+    assertEquals(3, result.getPrice().scale());
+  }
+
+  @Test
+  void readShouldReturnSameProductAsDataBindingWhenBodyHasCoercibleValues() throws Exception {
+    var json = "{\"extra\":{\"tags\":[1,{\"a\":null}]},\"id\":7,"
+        + "\"name\":\"Blazer \\\"Slim\\\" ñ\","
+        + "\"price\":\"29.90\",\"availability\":\"false\",\"sizes\":[\"S\",\"M\"]}";
+
+    assertEquals(readWithDataBinding(json), read(json));
+  }
+
+  @Test
+  void readShouldReturnProductWithNullsWhenFieldsAreNullOrMissing() throws Exception {
+    var json = "{\"id\":\"4\",\"name\":null,\"availability\":null}";
+
+    assertEquals(new Product(new ProductId("4"), null, null, null), read(json));
+    assertEquals(readWithDataBinding(json), read(json));
+  }
+
+  @Test
+  void readShouldReturnNullWhenBodyIsNull() throws Exception {
+    assertNull(read("null"));
+  }
+
+  @Test
+  void readShouldThrowJsonParseExceptionWhenBodyIsNotAnObject() {
+    assertThrows(JsonParseException.class, () -> read("[\"2\"]"));
+  }
+
+  @Test
+  void readShouldThrowJsonParseExceptionWhenPriceIsNotANumber() {
+    assertThrows(JsonParseException.class,
+        () -> read("{\"id\":\"2\",\"price\":\"cheap\",\"availability\":true}"));
+  }
+
+  @Test
+  void readShouldAllocateLessThanDataBindingWhenDecodingAProduct() throws Exception {
+    var threadMXBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean allocations
+        && allocations.isThreadAllocatedMemorySupported()
+        && allocations.isThreadAllocatedMemoryEnabled());
+    var body = FIXED_PRODUCT_JSON.getBytes(StandardCharsets.UTF_8);
+    ThrowingDecoder dataBinding = () -> objectMapper.readValue(body, ProductDetailsDto.class)
+        .toProduct();
+    ThrowingDecoder streaming = () -> {
+      try (var parser = objectMapper.getFactory().createParser(body)) {
+        return ProductJsonDecoder.read(parser);
+      }
+    };
+    allocatedBytesPerProduct(dataBinding);
+    allocatedBytesPerProduct(streaming);
+
+    var dataBindingBytes = allocatedBytesPerProduct(dataBinding);
+    var streamingBytes = allocatedBytesPerProduct(streaming);
+
+    assertTrue(streamingBytes < dataBindingBytes, "streaming decoder allocated " + streamingBytes
+        + " bytes per product, data binding " + dataBindingBytes);
+  }
+
+  private Product read(String json) throws Exception {
+    try (var parser = objectMapper.getFactory().createParser(json)) {
+      return ProductJsonDecoder.read(parser);
+    }
+  }
+
+  private Product readWithDataBinding(String json) throws Exception {
+    return objectMapper.readValue(json, ProductDetailsDto.class).toProduct();
+  }
+
+  private static long allocatedBytesPerProduct(ThrowingDecoder decoder) throws Exception {
+    var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var before = threadMXBean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      assertNotNull(decoder.decode());
+    }
+    return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+  }
+
+  @FunctionalInterface
+  private interface ThrowingDecoder {
+
+    Product decode() throws Exception;
+  }
+
+  private record ProductDetailsDto(String id, String name, BigDecimal price,
+                                   Boolean availability) {
+
+    Product toProduct() {
+      return new Product(new ProductId(id), name, price, availability);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.inditex.similar_products.adapter.out.http.webclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import com.inditex.similar_products.adapter.out.http.webclient.client.ProductWebClient;
+import com.inditex.similar_products.adapter.out.http.webclient.dto.ProductWebClientDto;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SimilarProductWebClientAdapterTest {
+
+  private static final ProductId FIXED_PRODUCT_ID_1 = new ProductId("1");
+  private static final ProductId FIXED_PRODUCT_ID_2 = new ProductId("2");
+  private static final ProductId FIXED_PRODUCT_ID_3 = new ProductId("3");
+  private static final ProductWebClientDto FIXED_PRODUCT_DTO_2 = new ProductWebClientDto(
+      "2", "Dress", BigDecimal.valueOf(19.99), true
+  );
+  private static final ProductWebClientDto FIXED_PRODUCT_DTO_3 = new ProductWebClientDto(
+      "3", "Blazer", BigDecimal.valueOf(29.99), false
+  );
+
+  @Mock
+  private ProductWebClient productWebClient;
+
+  private SimilarProductWebClientAdapter similarProductWebClientAdapter;
+
+  private final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+
+  @BeforeEach
+  void setup() {
+    similarProductWebClientAdapter = new SimilarProductWebClientAdapter(productWebClient);
+  }
+
+  @Test
+  void getSimilarProductIdsShouldReturnListOfProductIdsWhenClientReturnsAsExpected() {
+    when(productWebClient.getSimilarProductIds("1")).thenReturn(Mono.just(List.of("2", "3")));
+
+    var result = similarProductWebClientAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1,
+        deadline).join();
+
+    assertEquals(List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3), result);
+  }
+
+  @Test
+  void getSimilarProductIdsShouldCompleteWithProductNotFoundExceptionWhenClientFailsWithIt() {
+    when(productWebClient.getSimilarProductIds("1"))
+        .thenReturn(Mono.error(new ProductNotFoundException("Product not found")));
+
+    var future = similarProductWebClientAdapter.getSimilarProductIds(FIXED_PRODUCT_ID_1,
+        deadline);
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+  }
+
+  @Test
+  void getProductsShouldReturnProductsInRequestedOrderWhenClientReturnsAsExpected() {
+    when(productWebClient.getProductById("2"))
+        .thenReturn(Mono.just(FIXED_PRODUCT_DTO_2).delayElement(Duration.ofMillis(50)));
+    when(productWebClient.getProductById("3")).thenReturn(Mono.just(FIXED_PRODUCT_DTO_3));
+
+    var result = similarProductWebClientAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3), deadline).join();
+
+    assertEquals(2, result.size());
+    assertEquals("2", result.get(0).getId().value());
+    assertEquals("3", result.get(1).getId().value());
+  }
+
+  @Test
+  void getProductsShouldCompleteWithSimilarProductsRetrievalExceptionWhenAnyProductFails() {
+    when(productWebClient.getProductById("2")).thenReturn(Mono.just(FIXED_PRODUCT_DTO_2));
+    when(productWebClient.getProductById("3"))
+        .thenReturn(Mono.error(new SimilarProductsRetrievalException("Something went wrong")));
+
+    var future = similarProductWebClientAdapter.getProducts(
+        List.of(FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3), deadline);
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(SimilarProductsRetrievalException.class, exception.getCause());
+  }
+
+  @Test
+  void getProductsShouldCompleteWithDeadlineExceededExceptionWhenDeadlineExpires() {
+    when(productWebClient.getProductById("2")).thenReturn(Mono.never());
+
+    var future = similarProductWebClientAdapter.getProducts(List.of(FIXED_PRODUCT_ID_2),
+        Deadline.after(Duration.ofMillis(50)));
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+  }
+
+  @Test
+  void getAvailableProductsShouldOmitProductsThatFailOrMissTheDeadline() {
+    when(productWebClient.getProductById("1")).thenReturn(Mono.never());
+    when(productWebClient.getProductById("2")).thenReturn(Mono.just(FIXED_PRODUCT_DTO_2));
+    when(productWebClient.getProductById("3"))
+        .thenReturn(Mono.error(new SimilarProductsRetrievalException("Something went wrong")));
+
+    var result = similarProductWebClientAdapter.getAvailableProducts(
+        List.of(FIXED_PRODUCT_ID_1, FIXED_PRODUCT_ID_2, FIXED_PRODUCT_ID_3),
+        Deadline.after(Duration.ofMillis(100))).join();
+
+    assertEquals(1, result.products().size());
+    assertEquals("2", result.products().get(0).getId().value());
+    assertEquals(List.of(FIXED_PRODUCT_ID_1, FIXED_PRODUCT_ID_3), result.omittedProductIds());
+  }
+}
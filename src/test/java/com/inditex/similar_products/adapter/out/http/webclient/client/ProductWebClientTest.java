@@ -0,0 +1,194 @@
+package com.inditex.similar_products.adapter.out.http.webclient.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.inditex.similar_products.adapter.out.http.restclient.client.ProductRestClient;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetry.BudgetedRetryConfig;
+import com.inditex.similar_products.adapter.out.http.restclient.concurrency.BudgetedRetryRegistry;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ProductWebClientTest {
+
+  private static final String FIXED_PRODUCT_ID_1 = "1";
+  private static final String FIXED_PRODUCT_ID_2 = "2";
+  private static final String FIXED_BASED_URL = "http://mock-product-api";
+  private static final String FIXED_SIMILAR_PRODUCT_IDS_URL = "/product/{productId}/similarids";
+  private static final String FIXED_PRODUCT_DETAILS_URL = "/product/{productId}";
+  private static final String FIXED_GET_PRODUCT_RAW_RESPONSE_2 = """
+      {"id":"2","name":"Dress","price":19.99,"availability":true}
+      """;
+
+  private final AtomicInteger requests = new AtomicInteger();
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+  private BudgetedRetryRegistry retryRegistry = retryRegistry(100);
+
+  @Test
+  void getSimilarProductIdsShouldReturnListOfIdsWhenApiReturnsAsExpected() {
+    var productWebClient = productWebClient(HttpStatus.OK, "[2,3,4]");
+
+    var ids = productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block();
+
+    assertEquals(List.of("2", "3", "4"), ids);
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldReturnEmptyListWhenApiReturnsEmptyBody() {
+    var productWebClient = productWebClient(HttpStatus.OK, "");
+
+    var ids = productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block();
+
+    assertEquals(List.of(), ids);
+  }
+
+  @Test
+  void getSimilarProductIdsShouldThrowProductNotFoundExceptionAndNoRetryWhenApiReturns404() {
+    var productWebClient = productWebClient(HttpStatus.NOT_FOUND, "");
+
+    assertThrows(ProductNotFoundException.class,
+        () -> productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldThrowSimilarProductsRetrievalExceptionAndRetry3TimesWhenApiReturns500() {
+    var productWebClient = productWebClient(HttpStatus.INTERNAL_SERVER_ERROR, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block());
+    assertEquals(3, requests.get());
+    assertEquals(2,
+        retryRegistry.retry(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT).retries());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns400() {
+    var productWebClient = productWebClient(HttpStatus.BAD_REQUEST, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getSimilarProductIdsShouldStopRetryingWhenRetryBudgetIsExhausted() {
+    retryRegistry = retryRegistry(1);
+    var productWebClient = productWebClient(HttpStatus.SERVICE_UNAVAILABLE, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getSimilarProductIds(FIXED_PRODUCT_ID_1).block());
+    assertEquals(2, requests.get());
+    assertEquals(1, retryRegistry.retry(ProductRestClient.SIMILAR_PRODUCT_IDS_ENDPOINT)
+        .budgetRejections());
+  }
+
+  @Test
+  void getProductByIdShouldReturnProductWhenApiReturnsAsExpected() {
+    var productWebClient = productWebClient(HttpStatus.OK, FIXED_GET_PRODUCT_RAW_RESPONSE_2);
+
+    var product = productWebClient.getProductById(FIXED_PRODUCT_ID_2).block();
+
+    assertNotNull(product);
+    assertEquals("2", product.id());
+    assertEquals(new BigDecimal("19.99"), product.price());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns404() {
+    var productWebClient = productWebClient(HttpStatus.NOT_FOUND, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns403() {
+    var productWebClient = productWebClient(HttpStatus.FORBIDDEN, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndNoRetryWhenApiReturns501() {
+    var productWebClient = productWebClient(HttpStatus.NOT_IMPLEMENTED, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndRetry3TimesWhenApiReturns429() {
+    var productWebClient = productWebClient(HttpStatus.TOO_MANY_REQUESTS, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(3, requests.get());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionAndRetry3TimesWhenApiReturnsEmptyBody() {
+    var productWebClient = productWebClient(HttpStatus.OK, "");
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(3, requests.get());
+  }
+
+  @Test
+  void getProductByIdShouldThrowSimilarProductsRetrievalExceptionWithoutCallingApiWhenCircuitIsOpen() {
+    var productWebClient = productWebClient(HttpStatus.OK, FIXED_GET_PRODUCT_RAW_RESPONSE_2);
+    circuitBreakerRegistry.circuitBreaker(ProductRestClient.PRODUCT_DETAILS_ENDPOINT)
+        .transitionToOpenState();
+
+    assertThrows(SimilarProductsRetrievalException.class,
+        () -> productWebClient.getProductById(FIXED_PRODUCT_ID_2).block());
+    assertEquals(0, requests.get());
+  }
+
+  private ProductWebClient productWebClient(HttpStatus status, String body) {
+    var webClient = WebClient.builder()
+        .baseUrl(FIXED_BASED_URL)
+        .exchangeFunction(request -> {
+          requests.incrementAndGet();
+          var response = ClientResponse.create(status)
+              .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          if (!body.isEmpty()) {
+            response.body(body);
+          }
+          return Mono.just(response.build());
+        })
+        .build();
+    var productWebClient = new ProductWebClient(webClient, circuitBreakerRegistry,
+        retryRegistry);
+    ReflectionTestUtils.setField(productWebClient, "getSimilarProductIdsUrl",
+        FIXED_SIMILAR_PRODUCT_IDS_URL);
+    ReflectionTestUtils.setField(productWebClient, "getProductDetailsUrl",
+        FIXED_PRODUCT_DETAILS_URL);
+    return productWebClient;
+  }
+
+  private static BudgetedRetryRegistry retryRegistry(double budgetMaxTokens) {
+    return new BudgetedRetryRegistry(new BudgetedRetryConfig(3, Duration.ofMillis(10), 1,
+        Duration.ofMillis(10), 0, budgetMaxTokens, ProductRestClient::isRetryable));
+  }
+}
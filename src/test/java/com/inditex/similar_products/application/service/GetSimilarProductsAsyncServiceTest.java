@@ -0,0 +1,91 @@
+package com.inditex.similar_products.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.similar_products.application.port.out.GetProductsByIdsAsyncPort;
+import com.inditex.similar_products.application.port.out.GetSimilarProductIdsAsyncPort;
+import com.inditex.similar_products.domain.exception.ProductNotFoundException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
+import com.inditex.similar_products.domain.model.Product;
+import com.inditex.similar_products.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetSimilarProductsAsyncServiceTest {
+
+  private static final ProductId FIXED_PRODUCT_ID = new ProductId("1");
+  private static final Deadline FIXED_DEADLINE = Deadline.after(Duration.ofSeconds(10));
+  private static final List<ProductId> FIXED_LIST_OF_PRODUCT_IDS = List.of(
+      new ProductId("2"), new ProductId("3"), new ProductId("4")
+  );
+  private static final List<Product> FIXED_LIST_OF_SIMILAR_PRODUCTS = List.of(
+      new Product(FIXED_LIST_OF_PRODUCT_IDS.get(0), "Dress", BigDecimal.valueOf(19.99), true),
+      new Product(FIXED_LIST_OF_PRODUCT_IDS.get(1), "Blazer", BigDecimal.valueOf(29.99), false),
+      new Product(FIXED_LIST_OF_PRODUCT_IDS.get(2), "Boots", BigDecimal.valueOf(39.99), true)
+  );
+
+  @Mock
+  private GetProductsByIdsAsyncPort getProductsByIdsAsyncPort;
+  @Mock
+  private GetSimilarProductIdsAsyncPort getSimilarProductIdsAsyncPort;
+
+  @InjectMocks
+  private GetSimilarProductsAsyncService getSimilarProductsAsyncService;
+
+  @Test
+  void shouldReturnSimilarProductsWhenPortsReturnAsExpected() {
+    when(getSimilarProductIdsAsyncPort.getSimilarProductIds(FIXED_PRODUCT_ID, FIXED_DEADLINE))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_PRODUCT_IDS));
+    when(getProductsByIdsAsyncPort.getProducts(FIXED_LIST_OF_PRODUCT_IDS, FIXED_DEADLINE))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_SIMILAR_PRODUCTS));
+
+    var products = getSimilarProductsAsyncService.getSimilarProducts(FIXED_PRODUCT_ID,
+        FIXED_DEADLINE).join();
+
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS, products);
+  }
+
+  @Test
+  void shouldCompleteExceptionallyAndNotRequestProductsWhenGetIdsPortFails() {
+    when(getSimilarProductIdsAsyncPort.getSimilarProductIds(FIXED_PRODUCT_ID, FIXED_DEADLINE))
+        .thenReturn(CompletableFuture.failedFuture(
+            new ProductNotFoundException("Product not found")));
+
+    var future = getSimilarProductsAsyncService.getSimilarProducts(FIXED_PRODUCT_ID,
+        FIXED_DEADLINE);
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+    verify(getProductsByIdsAsyncPort, never()).getProducts(anyList(), any());
+  }
+
+  @Test
+  void shouldReturnAvailableSimilarProductsWhenPortsReturnAsExpected() {
+    var availableProducts = new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2),
+        List.of(FIXED_LIST_OF_PRODUCT_IDS.get(2)));
+    when(getSimilarProductIdsAsyncPort.getSimilarProductIds(FIXED_PRODUCT_ID, FIXED_DEADLINE))
+        .thenReturn(CompletableFuture.completedFuture(FIXED_LIST_OF_PRODUCT_IDS));
+    when(getProductsByIdsAsyncPort.getAvailableProducts(FIXED_LIST_OF_PRODUCT_IDS,
+        FIXED_DEADLINE)).thenReturn(CompletableFuture.completedFuture(availableProducts));
+
+    var result = getSimilarProductsAsyncService.getAvailableSimilarProducts(FIXED_PRODUCT_ID,
+        FIXED_DEADLINE).join();
+
+    assertEquals(availableProducts, result);
+  }
+}
@@ -1,16 +1,31 @@
 package com.inditex.similar_products.application.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.inditex.similar_products.application.context.DeadlineContext;
 import com.inditex.similar_products.application.port.out.GetProductsByIdsPort;
 import com.inditex.similar_products.application.port.out.GetSimilarProductIdsPort;
+import com.inditex.similar_products.domain.exception.DeadlineExceededException;
 import com.inditex.similar_products.domain.exception.ProductNotFoundException;
 import com.inditex.similar_products.domain.exception.SimilarProductsRetrievalException;
+import com.inditex.similar_products.domain.model.Deadline;
+import com.inditex.similar_products.domain.model.PartialProducts;
 import com.inditex.similar_products.domain.model.Product;
 import com.inditex.similar_products.domain.model.ProductId;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -101,4 +116,99 @@ class GetSimilarProductsServiceTest {
     assertThrows(RuntimeException.class,
         () -> getSimilarProductsService.getSimilarProducts(FIXED_PRODUCT_ID));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReturnAvailableSimilarProductsWhenPortsReturnAsExpected() {
+    var availableProducts = new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2),
+        List.of(FIXED_LIST_OF_PRODUCT_IDS.get(2)));
+    when(getSimilarProductIdsPort.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(
+        FIXED_LIST_OF_PRODUCT_IDS);
+    when(getProductsByIdsPort.getAvailableProducts(FIXED_LIST_OF_PRODUCT_IDS)).thenReturn(
+        availableProducts);
+
+    var result = getSimilarProductsService.getAvailableSimilarProducts(FIXED_PRODUCT_ID);
+
+    assertEquals(availableProducts, result);
+  }
+
+  @Test
+  void shouldResolveSimilarIdsBeforeStreamingAndStreamProductsWhenConsumed() {
+    when(getSimilarProductIdsPort.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(
+        FIXED_LIST_OF_PRODUCT_IDS);
+    when(getProductsByIdsPort.streamAvailableProducts(eq(FIXED_LIST_OF_PRODUCT_IDS), eq(true),
+        any())).thenAnswer(invocation -> {
+          Consumer<Product> onProduct = invocation.getArgument(2);
+          FIXED_LIST_OF_SIMILAR_PRODUCTS.forEach(onProduct);
+          return List.of();
+        });
+
+    var stream = getSimilarProductsService.streamSimilarProducts(FIXED_PRODUCT_ID, true);
+    verify(getProductsByIdsPort, never()).streamAvailableProducts(anyList(), anyBoolean(), any());
+    var emitted = new ArrayList<Product>();
+    var omitted = stream.forEachAvailable(emitted::add);
+
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS, emitted);
+    assertTrue(omitted.isEmpty());
+  }
+
+  @Test
+  void shouldThrowProductNotFoundExceptionBeforeStreamingWhenGetIdsPortThrowsIt() {
+    when(getSimilarProductIdsPort.getSimilarProductIds(FIXED_PRODUCT_ID)).thenThrow(
+        new ProductNotFoundException("Product not found")
+    );
+
+    assertThrows(ProductNotFoundException.class,
+        () -> getSimilarProductsService.streamSimilarProducts(FIXED_PRODUCT_ID, false));
+  }
+
+  @Test
+  void shouldFetchEachSharedProductOnceAndReportOutcomePerInputIdWhenBatchRequested() {
+    var batchService = new GetSimilarProductsService(getSimilarProductIdsPort,
+        getProductsByIdsPort, Executors.newVirtualThreadPerTaskExecutor());
+    var productId5 = new ProductId("5");
+    var productId6 = new ProductId("6");
+    when(getSimilarProductIdsPort.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(
+        FIXED_LIST_OF_PRODUCT_IDS.subList(0, 2));
+    when(getSimilarProductIdsPort.getSimilarProductIds(productId5)).thenReturn(
+        FIXED_LIST_OF_PRODUCT_IDS.subList(1, 3));
+    when(getSimilarProductIdsPort.getSimilarProductIds(productId6)).thenThrow(
+        new ProductNotFoundException("Product not found"));
+    when(getProductsByIdsPort.getAvailableProducts(FIXED_LIST_OF_PRODUCT_IDS)).thenReturn(
+        new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2),
+            List.of(FIXED_LIST_OF_PRODUCT_IDS.get(2))));
+
+    var result = batchService.getSimilarProductsBatch(
+        List.of(productId6, FIXED_PRODUCT_ID, productId5, FIXED_PRODUCT_ID));
+
+    assertEquals(List.of(productId6, FIXED_PRODUCT_ID, productId5),
+        List.copyOf(result.keySet()));
+    assertInstanceOf(ProductNotFoundException.class, result.get(productId6).error());
+    assertEquals(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 2),
+        result.get(FIXED_PRODUCT_ID).products());
+    assertInstanceOf(SimilarProductsRetrievalException.class, result.get(productId5).error());
+    assertEquals("Products 4 could not be retrieved", result.get(productId5).error().getMessage());
+    verify(getProductsByIdsPort, times(1)).getAvailableProducts(anyList());
+  }
+
+  @Test
+  void shouldReportDeadlineExceededForProductsWithMissingDetailsWhenBatchDeadlineExpired() {
+    var batchService = new GetSimilarProductsService(getSimilarProductIdsPort,
+        getProductsByIdsPort, Executors.newVirtualThreadPerTaskExecutor());
+    var deadline = Deadline.after(Duration.ofMillis(50));
+    when(getSimilarProductIdsPort.getSimilarProductIds(FIXED_PRODUCT_ID)).thenReturn(
+        FIXED_LIST_OF_PRODUCT_IDS.subList(0, 2));
+    when(getProductsByIdsPort.getAvailableProducts(FIXED_LIST_OF_PRODUCT_IDS.subList(0, 2)))
+        .thenAnswer(invocation -> {
+          Thread.sleep(100);
+          return new PartialProducts(FIXED_LIST_OF_SIMILAR_PRODUCTS.subList(0, 1),
+              List.of(FIXED_LIST_OF_PRODUCT_IDS.get(1)));
+        });
+
+    var result = DeadlineContext.supplyWithin(deadline,
+        () -> batchService.getSimilarProductsBatch(List.of(FIXED_PRODUCT_ID)));
+
+    assertInstanceOf(DeadlineExceededException.class, result.get(FIXED_PRODUCT_ID).error());
+    assertEquals("Request deadline exceeded while retrieving products 3",
+        result.get(FIXED_PRODUCT_ID).error().getMessage());
+  }
+}
@@ -0,0 +1,50 @@
+package com.inditex.similar_products.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LoadScenarioTest {
+
+  @AfterEach
+  void tearDown() {
+    System.clearProperty("loadtest.budget.normal");
+  }
+
+  @Test
+  void selectShouldReturnEveryScenarioWhenNamesAreBlank() {
+    assertEquals(List.of(LoadScenario.values()), LoadScenario.select(" "));
+  }
+
+  @Test
+  void selectShouldReturnRequestedScenariosInRunOrderWhenNamesAreKnown() {
+    var result = LoadScenario.select("slow, normal,slow");
+
+    assertEquals(List.of(LoadScenario.NORMAL, LoadScenario.SLOW), result);
+  }
+
+  @Test
+  void selectShouldThrowIllegalArgumentExceptionListingThemWhenNamesAreUnknown() {
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> LoadScenario.select("normal,slwo,NotFound"));
+
+    assertTrue(exception.getMessage().startsWith("Unknown scenarios [slwo, NotFound]"));
+  }
+
+  @Test
+  void selectShouldThrowIllegalArgumentExceptionWhenNamesSelectNoScenario() {
+    assertThrows(IllegalArgumentException.class, () -> LoadScenario.select(" , ,"));
+  }
+
+  @Test
+  void p99BudgetShouldUseSystemPropertyWhenItIsSet() {
+    assertEquals(Duration.ofMillis(500), LoadScenario.NORMAL.p99Budget());
+
+    System.setProperty("loadtest.budget.normal", "750");
+
+    assertEquals(Duration.ofMillis(750), LoadScenario.NORMAL.p99Budget());
+  }
+}
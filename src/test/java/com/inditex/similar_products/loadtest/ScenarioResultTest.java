@@ -0,0 +1,68 @@
+package com.inditex.similar_products.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class ScenarioResultTest {
+
+  private static final Duration FIXED_ELAPSED = Duration.ofSeconds(10);
+
+  @Test
+  void percentileShouldReturnNearestRankLatencyWhenLatenciesAreUnsorted() {
+    var result = result(LoadScenario.NORMAL, 30, 10, 40, 20);
+
+    assertEquals(Duration.ofMillis(20), result.percentile(0.5));
+    assertEquals(Duration.ofMillis(40), result.percentile(0.99));
+    assertEquals(Duration.ofMillis(10), result.percentile(0));
+    assertEquals(Duration.ofMillis(40), result.percentile(1));
+  }
+
+  @Test
+  void percentileShouldReturnZeroWhenThereAreNoLatencies() {
+    var result = result(LoadScenario.NORMAL);
+
+    assertEquals(Duration.ZERO, result.percentile(0.99));
+    assertTrue(result.withinBudget());
+  }
+
+  @Test
+  void withinBudgetShouldBeTrueWhenP99IsAtBudget() {
+    var latencies = LongStream.rangeClosed(1, 100).map(i -> i * 5).toArray();
+
+    var result = result(LoadScenario.NORMAL, latencies);
+
+    assertEquals(Duration.ofMillis(495), result.percentile(0.99));
+    assertTrue(result(LoadScenario.NORMAL, 500).withinBudget());
+    assertTrue(result.withinBudget());
+  }
+
+  @Test
+  void withinBudgetShouldBeFalseWhenP99ExceedsBudget() {
+    var latencies = LongStream.rangeClosed(1, 100).map(i -> i < 99 ? 100 : 501).toArray();
+
+    var result = result(LoadScenario.NORMAL, latencies);
+
+    assertFalse(result.withinBudget());
+    assertTrue(result(LoadScenario.ERROR, latencies).withinBudget());
+    assertTrue(result.summary().contains("EXCEEDED"));
+  }
+
+  @Test
+  void throughputShouldDivideRequestsByElapsedSecondsWhenScenarioCompleted() {
+    var result = result(LoadScenario.NORMAL, 10, 20, 30, 40, 50);
+
+    assertEquals(0.5, result.throughput(), 1e-9);
+  }
+
+  private static ScenarioResult result(LoadScenario scenario, long... latenciesMillis) {
+    var latenciesNanos = LongStream.of(latenciesMillis)
+        .map(millis -> Duration.ofMillis(millis).toNanos())
+        .toArray();
+    return new ScenarioResult(scenario, latenciesNanos, Map.of(200, (long) latenciesMillis.length),
+        0, FIXED_ELAPSED);
+  }
+}